@@ -0,0 +1,105 @@
+package com.intuit.playerservice.benchmark;
+
+import com.intuit.playerservice.logging.ILogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Generated inputs shared by the benchmarks. Rosters of any size are built by repeating the
+ * bundled CSV with a copy suffix on playerID, so the data keeps the real value distribution.
+ * Files are written once under the system temp directory and reused by later forks and runs.
+ */
+final class BenchmarkData {
+    static final Path BUNDLED_CSV = Paths.get("src/main/resources/player.csv");
+
+    // Reload and startup log lines would otherwise be measured along with the work
+    static final ILogger NO_LOGGER = new ILogger() {
+        @Override
+        public boolean isInfoEnabled() {
+            return false;
+        }
+
+        @Override
+        public void info(String message) {
+        }
+
+        @Override
+        public void warn(String message) {
+        }
+
+        @Override
+        public void error(String message, Throwable throwable) {
+        }
+    };
+
+    private BenchmarkData() {
+    }
+
+    static Path roster(int rows) throws IOException {
+        return roster(rows, false);
+    }
+
+    // The edited roster differs in the weight of its first row, so alternating reloads always have a change to apply
+    static Path roster(int rows, boolean edited) throws IOException {
+        Path dir = Paths.get(System.getProperty("java.io.tmpdir"), "playerservice-jmh");
+        Path csv = dir.resolve("players-" + rows + (edited ? "-edited" : "") + ".csv");
+        if (Files.exists(csv)) {
+            return csv;
+        }
+        Files.createDirectories(dir);
+        List<String> lines = Files.readAllLines(BUNDLED_CSV, StandardCharsets.UTF_8);
+        List<String> body = lines.subList(1, lines.size());
+        Path temp = Files.createTempFile(dir, "players-", ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(lines.get(0));
+            writer.write('\n');
+            for (int row = 0; row < rows; row++) {
+                String line = row == 0 && edited ? withWeight(body.get(0), "999") : body.get(row % body.size());
+                int copy = row / body.size();
+                int idEnd = line.indexOf(',');
+                writer.write(line, 0, idEnd);
+                if (copy > 0) {
+                    writer.write("_" + copy);
+                }
+                writer.write(line, idEnd, line.length() - idEnd);
+                writer.write('\n');
+            }
+        }
+        Files.move(temp, csv, StandardCopyOption.ATOMIC_MOVE);
+        return csv;
+    }
+
+    // weight is the 17th column of the bundled CSV
+    private static String withWeight(String line, String weight) {
+        String[] fields = line.split(",", -1);
+        fields[16] = weight;
+        return String.join(",", fields);
+    }
+
+    // playerIDs present in a generated roster of the given size
+    static String[] ids(int rows) throws IOException {
+        List<String> lines = Files.readAllLines(BUNDLED_CSV, StandardCharsets.UTF_8);
+        int base = lines.size() - 1;
+        String[] ids = new String[Math.min(rows, 100_000)];
+        for (int i = 0; i < ids.length; i++) {
+            // Spread the sample over every copy of the roster
+            long row = (long) i * rows / ids.length;
+            String line = lines.get(1 + (int) (row % base));
+            int copy = (int) (row / base);
+            ids[i] = line.substring(0, line.indexOf(',')) + (copy > 0 ? "_" + copy : "");
+        }
+        return ids;
+    }
+
+    // playerIDs of the bundled roster, for load against a running service
+    static String[] bundledIds() throws IOException {
+        return ids(Files.readAllLines(BUNDLED_CSV, StandardCharsets.UTF_8).size() - 1);
+    }
+}
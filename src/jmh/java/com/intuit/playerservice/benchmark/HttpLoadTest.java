@@ -0,0 +1,132 @@
+package com.intuit.playerservice.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load against a running service, for comparing request execution modes
+ * (for example with and without spring.threads.virtual.enabled on Java 21). Each client sends
+ * its next request as soon as the previous one completes: 80% by-ID lookups of bundled players
+ * and 20% pages of 50. Every concurrency level is warmed up before it is measured.
+ *
+ * Arguments: base URL, comma-separated client counts, seconds measured per level.
+ */
+public final class HttpLoadTest {
+    private static final int WARMUP_SECONDS = 5;
+    private static final int PAGE_SIZE = 50;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final String[] ids;
+
+    private HttpLoadTest(String baseUrl, String[] ids) {
+        this.baseUrl = baseUrl;
+        this.ids = ids;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int[] levels = Arrays.stream((args.length > 1 ? args[1] : "50,400").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpLoadTest test = new HttpLoadTest(baseUrl, BenchmarkData.bundledIds());
+        System.out.printf("%8s %10s %8s %10s %10s %10s %10s%n",
+            "clients", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (int clients : levels) {
+            test.run(clients, WARMUP_SECONDS);
+            Result result = test.run(clients, seconds);
+            System.out.printf("%8d %10d %8d %10.0f %10.2f %10.2f %10.2f%n", clients, result.requests, result.errors,
+                result.requests / (double) seconds, result.percentile(0.50), result.percentile(0.99),
+                result.percentile(1.0));
+        }
+        System.exit(0);
+    }
+
+    private Result run(int clients, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<Client>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(pool.submit(() -> new Client().runUntil(deadline)));
+        }
+        Result result = new Result();
+        for (Future<Client> future : futures) {
+            result.add(future.get());
+        }
+        pool.shutdown();
+        return result;
+    }
+
+    private HttpRequest nextRequest(ThreadLocalRandom random) {
+        String path = random.nextInt(5) == 0
+            ? "/api/players/paged?page=" + (1 + random.nextInt(ids.length / PAGE_SIZE)) + "&size=" + PAGE_SIZE
+            : "/api/players/" + ids[random.nextInt(ids.length)];
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private final class Client {
+        long[] latencies = new long[1024];
+        int requests;
+        int errors;
+
+        Client runUntil(long deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = nextRequest(random);
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 300) {
+                        errors++;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (requests == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, requests * 2);
+                }
+                latencies[requests++] = System.nanoTime() - start;
+            }
+            return this;
+        }
+    }
+
+    private static final class Result {
+        long[] latencies = new long[0];
+        long requests;
+        long errors;
+
+        void add(Client client) {
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + client.requests);
+            System.arraycopy(client.latencies, 0, latencies, offset, client.requests);
+            requests += client.requests;
+            errors += client.errors;
+        }
+
+        double percentile(double quantile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
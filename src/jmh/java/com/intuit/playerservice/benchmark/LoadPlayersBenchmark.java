@@ -0,0 +1,72 @@
+package com.intuit.playerservice.benchmark;
+
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.ColumnarPlayerRepository;
+import com.intuit.playerservice.repository.OffsetPlayerRepository;
+import com.intuit.playerservice.repository.PlayerRepository;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
+import com.intuit.playerservice.repository.loader.JacksonPlayerCsvLoader;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full cold load of a generated roster into a fresh repository: CSV parse, store build and the
+ * snapshot's secondary indexes (deferred to first use by the offset repository). Each invocation is one load, so the score is time per load.
+ * The 10M-row list store needs a heap of roughly 16 GB; pass -jvmArgsAppend -Xmx16g through jmh.args.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LoadPlayersBenchmark {
+
+    @Param({ "19000", "1000000", "10000000" })
+    public int rows;
+
+    @Param({ "parallel", "jackson" })
+    public String loader;
+
+    // offset only scans the file for row offsets, so its score does not depend on the loader
+    @Param({ "list", "columnar", "offset" })
+    public String repository;
+
+    private Path csv;
+    private IPlayerCsvLoader csvLoader;
+
+    @Setup
+    public void setUp() throws IOException {
+        csv = BenchmarkData.roster(rows);
+        csvLoader = "jackson".equals(loader) ? new JacksonPlayerCsvLoader() : new ParallelPlayerCsvLoader();
+    }
+
+    @Benchmark
+    public PlayerSnapshot loadPlayers() throws IOException {
+        PlayerRepository playerRepository;
+        if ("columnar".equals(repository)) {
+            playerRepository = new ColumnarPlayerRepository(BenchmarkData.NO_LOGGER, csvLoader, BinarySnapshotStore.disabled());
+        } else if ("offset".equals(repository)) {
+            playerRepository = new OffsetPlayerRepository(BenchmarkData.NO_LOGGER);
+        } else {
+            playerRepository = new PlayerRepository(BenchmarkData.NO_LOGGER, csvLoader, false);
+        }
+        playerRepository.loadPlayers(csv);
+        return playerRepository.getSnapshot();
+    }
+}
@@ -0,0 +1,71 @@
+package com.intuit.playerservice.benchmark;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.index.PlayerNameIndex;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead latency of {@link PlayerNameIndex} over the bundled roster. Sample mode reports the
+ * percentiles, so the p99 of a prefix lookup and of a one-edit fuzzy lookup can be read directly.
+ * Queries cycle through every distinct 1, 2 and 4 letter prefix of a last name and through the
+ * first 2000 distinct last names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+    private PlayerNameIndex index;
+    private String[] prefixes;
+    private String[] names;
+    private int nextPrefix;
+    private int nextName;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Player> roster = new ParallelPlayerCsvLoader().load(BenchmarkData.BUNDLED_CSV);
+        index = new PlayerNameIndex(roster);
+        prefixes = roster.stream()
+            .map(Player::getNameLast)
+            .filter(name -> name != null && !name.isEmpty())
+            .flatMap(name -> Arrays.stream(new String[] { name.substring(0, 1),
+                name.substring(0, Math.min(2, name.length())), name.substring(0, Math.min(4, name.length())) }))
+            .distinct()
+            .toArray(String[]::new);
+        names = roster.stream()
+            .map(Player::getNameLast)
+            .filter(name -> name != null && !name.isEmpty())
+            .distinct()
+            .limit(2000)
+            .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<Integer> prefix() {
+        nextPrefix = (nextPrefix + 1) % prefixes.length;
+        return index.search(prefixes[nextPrefix], 0, 10);
+    }
+
+    @Benchmark
+    public List<Integer> oneEdit() {
+        nextName = (nextName + 1) % names.length;
+        return index.search(names[nextName], 1, 10);
+    }
+}
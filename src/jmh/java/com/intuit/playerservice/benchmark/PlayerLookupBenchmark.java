@@ -0,0 +1,112 @@
+package com.intuit.playerservice.benchmark;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.PlayerRepository;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+import com.intuit.playerservice.service.FileWatcherService;
+import com.intuit.playerservice.service.PlayerService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read latency through {@link PlayerService} with several reader threads. The readsDuringReload
+ * group adds a thread that reloads the roster back to back, alternating between two files that
+ * differ in one row, so readers are measured while snapshots are being rebuilt and swapped.
+ * readsOnly is the same readers without the reloader, as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerLookupBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "19000", "1000000" })
+    public int rows;
+
+    @Param({ "true", "false" })
+    public boolean incremental;
+
+    private PlayerService playerService;
+    private String[] ids;
+    private Path[] rosters;
+    private int pages;
+    private int reloads;
+
+    @Setup
+    public void setUp() throws IOException {
+        PlayerRepository playerRepository = new PlayerRepository(BenchmarkData.NO_LOGGER,
+            new ParallelPlayerCsvLoader(), BinarySnapshotStore.disabled(), incremental);
+        playerService = new PlayerService(playerRepository, new FileWatcherService(BenchmarkData.NO_LOGGER),
+            BenchmarkData.NO_LOGGER);
+        rosters = new Path[] { BenchmarkData.roster(rows), BenchmarkData.roster(rows, true) };
+        playerService.loadPlayers(rosters[0]);
+        ids = BenchmarkData.ids(rows);
+        pages = rows / PAGE_SIZE;
+    }
+
+    @Benchmark
+    @Group("readsDuringReload")
+    @GroupThreads(3)
+    public Optional<Player> getByIdDuringReload() {
+        return getById();
+    }
+
+    @Benchmark
+    @Group("readsDuringReload")
+    @GroupThreads(2)
+    public List<Player> getPlayersPageDuringReload() {
+        return getPlayersPage();
+    }
+
+    // Only one thread runs this, so the counter needs no synchronization
+    @Benchmark
+    @Group("readsDuringReload")
+    @GroupThreads(1)
+    public void reload() {
+        playerService.loadPlayers(rosters[++reloads & 1]);
+    }
+
+    @Benchmark
+    @Group("readsOnly")
+    @GroupThreads(3)
+    public Optional<Player> getByIdReadsOnly() {
+        return getById();
+    }
+
+    @Benchmark
+    @Group("readsOnly")
+    @GroupThreads(2)
+    public List<Player> getPlayersPageReadsOnly() {
+        return getPlayersPage();
+    }
+
+    private Optional<Player> getById() {
+        return playerService.getById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    private List<Player> getPlayersPage() {
+        return playerService.getPlayersPage(1 + ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE);
+    }
+}
@@ -0,0 +1,96 @@
+package com.intuit.playerservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.PlayerRepository;
+import com.intuit.playerservice.service.PlayerResponseCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JSON the controller writes for a by-ID and a paged response: serialized on every request
+ * with the same ObjectMapper settings Spring MVC uses, or served from {@link PlayerResponseCache}.
+ * The page is also written as Smile and CBOR; setup prints the size of each encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final String PLAYER_ID = "aaronha01";
+    private static final int PAGE = 3;
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper smileMapper;
+    private ObjectMapper cborMapper;
+    private Player player;
+    private List<Player> page;
+    private PlayerResponseCache responseCache;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        PlayerRepository playerRepository = new PlayerRepository(BenchmarkData.NO_LOGGER);
+        playerRepository.loadPlayers(BenchmarkData.BUNDLED_CSV);
+        player = playerRepository.getById(PLAYER_ID).orElseThrow();
+        page = playerRepository.getSnapshot().getPage(PAGE, PAGE_SIZE);
+        responseCache = new PlayerResponseCache(playerRepository, objectMapper, true, Long.MAX_VALUE);
+        System.out.printf("Page of %d players: JSON %,d bytes, gzip JSON %,d bytes, Smile %,d bytes, CBOR %,d bytes%n",
+            page.size(), serializePage().length, cachedPageGzip().length, serializePageSmile().length,
+            serializePageCbor().length);
+    }
+
+    @Benchmark
+    public byte[] serializePlayer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(player);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageSmile() throws JsonProcessingException {
+        return smileMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cachedPlayer() {
+        return responseCache.getById(PLAYER_ID).getJson();
+    }
+
+    @Benchmark
+    public byte[] cachedPage() {
+        return responseCache.getPlayersPage(PAGE, PAGE_SIZE).getJson();
+    }
+
+    @Benchmark
+    public byte[] cachedPageGzip() {
+        return responseCache.getPlayersPage(PAGE, PAGE_SIZE).getGzip();
+    }
+}
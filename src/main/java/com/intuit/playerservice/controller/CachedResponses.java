@@ -0,0 +1,55 @@
+package com.intuit.playerservice.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import com.intuit.playerservice.model.CachedResponse;
+
+/**
+ * Turns a pre-rendered body into a response: 204 when there is none, 304 when the client
+ * already holds this snapshot's version, otherwise the JSON or its gzip form with a strong ETag
+ * and the headers of the snapshot it was rendered from.
+ * Shared by the servlet and reactive controllers so both answer conditional requests alike.
+ */
+final class CachedResponses {
+
+    private CachedResponses() {
+    }
+
+    static ResponseEntity<byte[]> toResponse(CachedResponse cached, String ifNoneMatch, String acceptEncoding) {
+        if (cached == null) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+        }
+        boolean gzip = cached.isCompressible() && acceptsGzip(acceptEncoding);
+        if (cached.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .headers(SnapshotHeaders.of(cached.getSnapshotVersion(), cached.getContentHash()))
+                .eTag(cached.getETag(gzip))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .headers(SnapshotHeaders.of(cached.getSnapshotVersion(), cached.getContentHash()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(cached.getETag(gzip))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.getGzip());
+        }
+        return response.body(cached.getJson());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package com.intuit.playerservice.controller;
+
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.service.interfaces.IPlayerChangeFeed;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A dataset's change feed as server-sent events. Each event is named change or reset, its id is the
+ * snapshot version it brings the client to, and its data is the {@link PlayerChangeEvent} as JSON.
+ * An EventSource sends the last id back as Last-Event-ID when it reconnects, so a dropped
+ * connection resumes from the replay buffer. While no reload happens a comment line is written
+ * every few seconds, which keeps proxies from closing the connection and detects clients that left.
+ */
+final class ChangeEvents {
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final Duration HEARTBEAT = Duration.ofSeconds(15);
+    // Marks the end of the changes so the heartbeat stops with them; never written
+    private static final ServerSentEvent<PlayerChangeEvent> END = ServerSentEvent.<PlayerChangeEvent>builder()
+        .comment("end")
+        .build();
+
+    private ChangeEvents() {
+    }
+
+    // The version to resume after: Last-Event-ID when the client is reconnecting, else the since parameter
+    static Long lastVersion(String lastEventId, Long since) {
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            return Long.parseLong(lastEventId.trim());
+        }
+        return since;
+    }
+
+    static Flux<ServerSentEvent<PlayerChangeEvent>> stream(IPlayerChangeFeed feed, Long lastVersion) {
+        if (feed == null) {
+            throw new NoSuchElementException("The change feed is disabled");
+        }
+        Flux<ServerSentEvent<PlayerChangeEvent>> changes = feed.subscribe(lastVersion)
+            .map(change -> ServerSentEvent.builder(change)
+                .id(Long.toString(change.getVersion()))
+                .event(change.isReset() ? "reset" : "change")
+                .build())
+            .concatWith(Mono.just(END));
+        Flux<ServerSentEvent<PlayerChangeEvent>> heartbeats = Flux.interval(HEARTBEAT)
+            .onBackpressureDrop()
+            .map(tick -> ServerSentEvent.<PlayerChangeEvent>builder().comment("heartbeat").build());
+        // A prefetch of one keeps the feed's per-subscriber buffer the only place changes queue up
+        return Flux.merge(1, changes, heartbeats).takeWhile(event -> event != END);
+    }
+}
@@ -1,57 +1,319 @@
 package com.intuit.playerservice.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.logging.RateLimitedLogger;
+import com.intuit.playerservice.model.CachedResponse;
 import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.model.PlayerPage;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.model.PlayerSearchResult;
+import com.intuit.playerservice.model.PlayerStats;
+import com.intuit.playerservice.service.SnapshotExpiredException;
+import com.intuit.playerservice.service.interfaces.IPlayerResponseCache;
+import com.intuit.playerservice.service.interfaces.IPlayerDatasets;
 import com.intuit.playerservice.service.interfaces.IPlayerService;
+import com.intuit.playerservice.service.interfaces.IRequestCoalescer;
+import java.time.Duration;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
 
 @RestController
-@RequestMapping("/api/players")
+@RequestMapping({ "/api/players", "/api/datasets/{dataset}/players" })
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PlayerController {
 
     @Autowired
-    private IPlayerService playerService;
+    private IPlayerDatasets datasets;
+
+    private ObjectMapper objectMapper;
+    // Same configuration as objectMapper, writing Smile or CBOR instead of JSON text
+    private ObjectMapper smileMapper;
+    private ObjectMapper cborMapper;
+
+    @Autowired
+    private IPlayerResponseCache responseCache;
+
+    // Shares the lookups of identical expensive requests; PlayerRequests says which ones
+    @Autowired
+    private IRequestCoalescer coalescer;
+
+    // A failed snapshot fails every request, so only one stack trace per interval reaches the log
+    private ILogger failureLogger;
+
+    @Autowired
+    void setLogger(ILogger logger) {
+        this.failureLogger = new RateLimitedLogger(logger, Duration.ofSeconds(10));
+    }
+
+    @Autowired
+    void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
 
     // Get player by ID
     @GetMapping("/{playerID}")
-    public ResponseEntity<Player> getById(@PathVariable String playerID) {
-        return handleRequest(() -> {
-            Optional<Player> playerOpt = this.playerService.getById(playerID);
+    public ResponseEntity<?> getById(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @PathVariable String playerID,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (version == null && PlayerRequests.useResponseCache(this.responseCache, dataset, accept)) {
+            return handleCachedRequest(() -> this.responseCache.getById(playerID), ifNoneMatch, acceptEncoding);
+        }
+        return handleRequest(dataset, version, view -> () -> {
+            Optional<Player> playerOpt = view.getById(playerID);
             return playerOpt.orElse(null);
         });
     }
 
+    // Get player by Retrosheet ID
+    @GetMapping("/retro/{retroID}")
+    public ResponseEntity<Player> getByRetroId(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @PathVariable String retroID,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> () -> view.getByRetroId(retroID).orElse(null));
+    }
+
+    // Get player by Baseball-Reference ID
+    @GetMapping("/bbref/{bbrefID}")
+    public ResponseEntity<Player> getByBbrefId(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @PathVariable String bbrefID,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> () -> view.getByBbrefId(bbrefID).orElse(null));
+    }
+
     // Get all players
     @GetMapping
-    public ResponseEntity<List<Player>> getAll() {
-        return handleRequest(() -> this.playerService.getAll());
+    public ResponseEntity<List<Player>> getAll(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("all", dataset, view), view::getAll));
     }
 
     // Get players with pagination
     @GetMapping("/paged")
-    public ResponseEntity<List<Player>> getPagedPlayers(
+    public ResponseEntity<?> getPagedPlayers(
+            @PathVariable(value = "dataset", required = false) String dataset,
             @RequestParam(value = "page", defaultValue = "1") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        return handleRequest(() -> this.playerService.getPlayersPage(page, size));
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (version == null && PlayerRequests.useResponseCache(this.responseCache, dataset, accept)) {
+            return handleCachedRequest(() -> this.responseCache.getPlayersPage(page, size), ifNoneMatch, acceptEncoding);
+        }
+        return handleRequest(dataset, version, view -> () -> view.getPlayersPage(page, size));
+    }
+
+    // Get players with keyset pagination; pass the returned nextCursor to fetch the following page
+    @GetMapping("/cursor")
+    public ResponseEntity<PlayerPage> getPlayersAfter(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> () -> view.getPlayersAfter(cursor, size));
+    }
+
+    // Search players by birth place, handedness, birth-year and debut ranges and living status, with sorting
+    @GetMapping("/search")
+    public ResponseEntity<PlayerSearchResult> search(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @ModelAttribute PlayerQuery query,
+            @RequestParam(value = "throws", required = false) String playerThrows,
+            @RequestParam(value = "version", required = false) Long version) {
+        if (playerThrows != null) {
+            query.setPlayerThrows(playerThrows);
+        }
+        return handleRequest(dataset, version, view -> () -> view.search(query));
+    }
+
+    // Type-ahead name search; maxEdits of 1 or 2 also matches names with that many typos
+    @GetMapping("/names")
+    public ResponseEntity<List<Player>> searchByName(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam("q") String query,
+            @RequestParam(value = "maxEdits", defaultValue = "0") int maxEdits,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> () -> view.searchByName(query, maxEdits, limit));
+    }
+
+    // Counts by birth country, birth decade and bats/throws, height and weight distributions and debut years
+    @GetMapping("/stats")
+    public ResponseEntity<PlayerStats> getStats(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("stats", dataset, view), view::getStats));
+    }
+
+    // Resolve many player IDs in one call; entries come back in request order, with found=false for unknown IDs
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> getByIds(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestBody List<String> ids,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return handleStreamingRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("batch", dataset, view, ids.size(), String.join("\0", ids)),
+                () -> view.getByIds(ids)),
+            WireFormats.streamFormat(format, accept, "json"));
+    }
+
+    // Stream every player as NDJSON (one object per line), a JSON array, or a Smile or CBOR array, without buffering the body
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return handleStreamingRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("all", dataset, view), view::getAll),
+            WireFormats.streamFormat(format, accept, "ndjson"));
+    }
+
+    // Server-sent events with the rows each reload added and updated and the playerIDs it removed.
+    // Reconnecting clients send Last-Event-ID, or since={version}, to replay the reloads they missed.
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<PlayerChangeEvent>>> changes(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestHeader(value = ChangeEvents.LAST_EVENT_ID, required = false) String lastEventId) {
+        return handleRequest(dataset, null,
+            view -> () -> ChangeEvents.stream(view.getChangeFeed(), ChangeEvents.lastVersion(lastEventId, since)));
+    }
+
+    // A dataset path segment selects a named roster; without one, requests go to the default dataset
+    private IPlayerService service(String dataset) {
+        return this.datasets.getService(dataset);
+    }
+
+    // Followers block until the leader's lookup finishes; its result or exception becomes theirs
+    private <T> Supplier<T> coalesce(String key, Supplier<T> action) {
+        return () -> this.coalescer.execute(key, action);
+    }
+
+    // Resolves the items up front so errors still map to a status, then streams them as NDJSON or as an array
+    private ResponseEntity<StreamingResponseBody> handleStreamingRequest(String dataset, Long version,
+            Function<IPlayerService, Supplier<List<?>>> request, String format) {
+        boolean ndjson = "ndjson".equals(format);
+        ObjectMapper mapper = this.objectMapper;
+        MediaType contentType;
+        if (ndjson) {
+            contentType = WireFormats.NDJSON;
+        } else if ("json".equals(format)) {
+            contentType = MediaType.APPLICATION_JSON;
+        } else if ("smile".equals(format)) {
+            mapper = this.smileMapper;
+            contentType = WireFormats.SMILE;
+        } else if ("cbor".equals(format)) {
+            mapper = this.cborMapper;
+            contentType = WireFormats.CBOR;
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        ObjectMapper writer = mapper;
+        List<?> items;
+        HttpHeaders headers;
+        try {
+            IPlayerService view = service(dataset).atVersion(version);
+            headers = SnapshotHeaders.of(view.getSnapshotVersion(), view.getContentHash());
+            items = request.apply(view).get();
+        } catch (SnapshotExpiredException e) {
+            return ResponseEntity.status(HttpStatus.GONE).headers(SnapshotHeaders.current(e.getCurrentVersion()))
+                .body(null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        } catch (Exception e) {
+            this.failureLogger.error("Request failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+                if (ndjson) {
+                    generator.setRootValueSeparator(null);
+                    for (Object item : items) {
+                        generator.writeObject(item);
+                        generator.writeRaw('\n');
+                    }
+                } else {
+                    generator.writeStartArray();
+                    for (Object item : items) {
+                        generator.writeObject(item);
+                    }
+                    generator.writeEndArray();
+                }
+            }
+        };
+        return ResponseEntity.ok().headers(headers).contentType(contentType).body(body);
+    }
+
+    // Writes pre-rendered bytes, answering 304 when the client already holds this snapshot's version
+    private ResponseEntity<byte[]> handleCachedRequest(Supplier<CachedResponse> action, String ifNoneMatch,
+            String acceptEncoding) {
+        try {
+            return CachedResponses.toResponse(action.get(), ifNoneMatch, acceptEncoding);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        } catch (Exception e) {
+            this.failureLogger.error("Request failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
     }
 
-    // Common method to handle requests
-    private <T> ResponseEntity<T> handleRequest(Supplier<T> action) {
+    // Common method to handle requests: every read of one request comes from the snapshot it reports in its headers,
+    // the current one unless the client pinned a version it was given earlier
+    private <T> ResponseEntity<T> handleRequest(String dataset, Long version, Function<IPlayerService, Supplier<T>> request) {
         try {
-            T result = action.get();
+            IPlayerService view = service(dataset).atVersion(version);
+            HttpHeaders headers = SnapshotHeaders.of(view.getSnapshotVersion(), view.getContentHash());
+            T result = request.apply(view).get();
             if (result == null || (result instanceof List && ((List<?>) result).isEmpty())) {
-                return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+                return ResponseEntity.status(HttpStatus.NO_CONTENT).headers(headers).body(null);
             } else {
-                return ResponseEntity.ok(result);
+                return ResponseEntity.ok().headers(headers).body(result);
             }
-        } catch (IndexOutOfBoundsException e) {
+        } catch (SnapshotExpiredException e) {
+            return ResponseEntity.status(HttpStatus.GONE).headers(SnapshotHeaders.current(e.getCurrentVersion()))
+                .body(null);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         } catch (Exception e) {
+            this.failureLogger.error("Request failed", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
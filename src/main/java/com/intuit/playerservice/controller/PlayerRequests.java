@@ -0,0 +1,37 @@
+package com.intuit.playerservice.controller;
+
+import com.intuit.playerservice.service.interfaces.IPlayerDatasets;
+import com.intuit.playerservice.service.interfaces.IPlayerResponseCache;
+import com.intuit.playerservice.service.interfaces.IPlayerService;
+
+/**
+ * Which requests the response cache answers and which share a lookup, for the servlet and reactive
+ * controllers alike. Identical listing, export, batch and stats requests that arrive together share
+ * one lookup; by-ID, page and search lookups are cheaper than the bookkeeping, so they always run on
+ * their own.
+ */
+final class PlayerRequests {
+
+    private PlayerRequests() {
+    }
+
+    // Pre-rendered bodies are JSON, so clients asking for Smile or CBOR are served by the regular path
+    static boolean useResponseCache(IPlayerResponseCache responseCache, String dataset, String accept) {
+        return responseCache.isEnabled() && IPlayerDatasets.isDefault(dataset)
+            && WireFormats.preferredBinary(accept) == null;
+    }
+
+    // Requests coalesce only when the endpoint, dataset and every argument match
+    static String key(String endpoint, String dataset, Object... args) {
+        StringBuilder key = new StringBuilder(endpoint).append('\0')
+            .append(IPlayerDatasets.isDefault(dataset) ? IPlayerDatasets.DEFAULT_DATASET : dataset);
+        for (Object arg : args) {
+            // A view stands for the snapshot it reads, so requests against different versions stay apart
+            if (arg instanceof IPlayerService view) {
+                arg = view.getSnapshotVersion();
+            }
+            key.append('\0').append(arg);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.intuit.playerservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Answers 429 with Retry-After, before any controller work, to API requests from a client that
+ * has used up the budget the endpoint draws from (see {@link RateLimits}).
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final IClientRateLimiter limiter;
+
+    @Autowired
+    public RateLimitFilter(IClientRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        IClientRateLimiter.Budget budget = RateLimits.budget(path);
+        if (budget != null) {
+            String header = limiter.getClientHeader() == null ? null : request.getHeader(limiter.getClientHeader());
+            long waitNanos = limiter.tryAcquire(RateLimits.client(limiter, header, request.getRemoteAddr()), budget);
+            if (waitNanos > 0) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, RateLimits.retryAfter(waitNanos));
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
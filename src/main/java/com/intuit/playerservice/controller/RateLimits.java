@@ -0,0 +1,39 @@
+package com.intuit.playerservice.controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter;
+
+/**
+ * Which budget a request draws from, shared by the servlet and reactive rate-limit filters.
+ * Listing, exporting and batch-resolving players cost time in proportion to the roster or the
+ * request body, so they share the small expensive budget; every other API call is standard.
+ * Paths outside the API, such as actuator endpoints, are not limited.
+ */
+final class RateLimits {
+    private static final Pattern EXPENSIVE = Pattern.compile("/api/(datasets/[^/]+/)?players(/export|/batch)?/?");
+
+    private RateLimits() {
+    }
+
+    // Null for paths that are not rate limited
+    static IClientRateLimiter.Budget budget(String path) {
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        return EXPENSIVE.matcher(path).matches() ? IClientRateLimiter.Budget.EXPENSIVE : IClientRateLimiter.Budget.STANDARD;
+    }
+
+    // The configured header when a trusted proxy sent it, otherwise the remote address
+    static String client(IClientRateLimiter limiter, String headerValue, String remoteAddress) {
+        return limiter.getClientHeader() != null && headerValue != null && !headerValue.isBlank()
+                && limiter.isTrustedProxy(remoteAddress)
+            ? headerValue
+            : remoteAddress;
+    }
+
+    // Retry-After is in whole seconds; rounding up keeps clients from retrying before a token exists
+    static String retryAfter(long waitNanos) {
+        return Long.toString(Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,365 @@
+package com.intuit.playerservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.bind.annotation.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.logging.RateLimitedLogger;
+import com.intuit.playerservice.model.CachedResponse;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.model.PlayerPage;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.model.PlayerSearchResult;
+import com.intuit.playerservice.model.PlayerStats;
+import com.intuit.playerservice.service.SnapshotExpiredException;
+import com.intuit.playerservice.service.interfaces.IPlayerResponseCache;
+import com.intuit.playerservice.service.interfaces.IPlayerDatasets;
+import com.intuit.playerservice.service.interfaces.IPlayerService;
+import com.intuit.playerservice.service.interfaces.IRequestCoalescer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The player API on WebFlux, active when the application runs as a reactive web application
+ * (the reactive profile). Endpoints, parameters and status codes match {@link PlayerController}.
+ * Lists are written as a Flux over the snapshot's rows, so the encoder pulls players only as
+ * fast as the connection drains: a slow client holds neither a thread nor a rendered body.
+ * Lookups can block: offset stores parse rows from the file, and search, name and keyset indexes
+ * are built on first use. They therefore run, and lists are iterated, on the bounded elastic
+ * scheduler, never on a Netty event loop.
+ * Smile is negotiated like JSON; CBOR, which WebFlux cannot stream, is only served by the servlet controller.
+ */
+@RestController
+@RequestMapping({ "/api/players", "/api/datasets/{dataset}/players" })
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePlayerController {
+
+    @Autowired
+    private IPlayerDatasets datasets;
+
+    @Autowired
+    private IPlayerResponseCache responseCache;
+
+    // Shares the lookups of identical expensive requests; PlayerRequests says which ones
+    @Autowired
+    private IRequestCoalescer coalescer;
+
+    private ObjectMapper objectMapper;
+    // Same configuration as objectMapper, writing Smile instead of JSON text
+    private ObjectMapper smileMapper;
+
+    // A failed snapshot fails every request, so only one stack trace per interval reaches the log
+    private ILogger failureLogger;
+
+    @Autowired
+    void setLogger(ILogger logger) {
+        this.failureLogger = new RateLimitedLogger(logger, Duration.ofSeconds(10));
+    }
+
+    @Autowired
+    void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    // Get player by ID
+    @GetMapping("/{playerID}")
+    public Mono<? extends ResponseEntity<?>> getById(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @PathVariable String playerID,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (version == null && PlayerRequests.useResponseCache(this.responseCache, dataset, accept)) {
+            return handleCachedRequest(Mono.fromSupplier(() -> this.responseCache.getById(playerID)), ifNoneMatch, acceptEncoding);
+        }
+        return handleRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.getById(playerID).orElse(null)));
+    }
+
+    // Get player by Retrosheet ID
+    @GetMapping("/retro/{retroID}")
+    public Mono<ResponseEntity<Player>> getByRetroId(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @PathVariable String retroID,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.getByRetroId(retroID).orElse(null)));
+    }
+
+    // Get player by Baseball-Reference ID
+    @GetMapping("/bbref/{bbrefID}")
+    public Mono<ResponseEntity<Player>> getByBbrefId(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @PathVariable String bbrefID,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.getByBbrefId(bbrefID).orElse(null)));
+    }
+
+    // Get all players, as a JSON or Smile array or, with Accept: application/x-ndjson, one object per line
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson", "application/x-jackson-smile" })
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return handleStreamingRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("all", dataset, view), view::getAll), WireFormats.listFormat(accept));
+    }
+
+    // Get players with pagination
+    @GetMapping(value = "/paged", produces = { MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson",
+            "application/x-jackson-smile" })
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getPagedPlayers(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (version == null && PlayerRequests.useResponseCache(this.responseCache, dataset, accept)) {
+            return handleCachedRequest(Mono.fromSupplier(() -> this.responseCache.getPlayersPage(page, size)),
+                ifNoneMatch, acceptEncoding).map(ReactivePlayerController::asStream);
+        }
+        return handleStreamingRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.getPlayersPage(page, size)), WireFormats.listFormat(accept));
+    }
+
+    // Get players with keyset pagination; pass the returned nextCursor to fetch the following page
+    @GetMapping("/cursor")
+    public Mono<ResponseEntity<PlayerPage>> getPlayersAfter(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.getPlayersAfter(cursor, size)));
+    }
+
+    // Search players by birth place, handedness, birth-year and debut ranges and living status, with sorting
+    @GetMapping("/search")
+    public Mono<ResponseEntity<PlayerSearchResult>> search(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @ModelAttribute PlayerQuery query,
+            @RequestParam(value = "throws", required = false) String playerThrows,
+            @RequestParam(value = "version", required = false) Long version) {
+        if (playerThrows != null) {
+            query.setPlayerThrows(playerThrows);
+        }
+        return handleRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.search(query)));
+    }
+
+    // Type-ahead name search; maxEdits of 1 or 2 also matches names with that many typos
+    @GetMapping("/names")
+    public Mono<ResponseEntity<List<Player>>> searchByName(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam("q") String query,
+            @RequestParam(value = "maxEdits", defaultValue = "0") int maxEdits,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version, view -> Mono.fromSupplier(
+            () -> view.searchByName(query, maxEdits, limit)));
+    }
+
+    // Counts by birth country, birth decade and bats/throws, height and weight distributions and debut years
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<PlayerStats>> getStats(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "version", required = false) Long version) {
+        return handleRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("stats", dataset, view), view::getStats));
+    }
+
+    // Resolve many player IDs in one call; entries come back in request order, with found=false for unknown IDs
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getByIds(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestBody List<String> ids,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return handleStreamingRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("batch", dataset, view, ids.size(), String.join("\0", ids)),
+                () -> view.getByIds(ids)),
+            WireFormats.streamFormat(format, accept, "json"));
+    }
+
+    // Stream every player as NDJSON (one object per line), a single JSON array or a Smile array
+    @GetMapping("/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> export(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return handleStreamingRequest(dataset, version,
+            view -> coalesce(PlayerRequests.key("all", dataset, view), view::getAll),
+            WireFormats.streamFormat(format, accept, "ndjson"));
+    }
+
+    // Server-sent events with the rows each reload added and updated and the playerIDs it removed.
+    // Reconnecting clients send Last-Event-ID, or since={version}, to replay the reloads they missed.
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Mono<ResponseEntity<Flux<ServerSentEvent<PlayerChangeEvent>>>> changes(
+            @PathVariable(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "since", required = false) Long since,
+            @RequestHeader(value = ChangeEvents.LAST_EVENT_ID, required = false) String lastEventId) {
+        return handleRequest(dataset, null, view -> Mono.fromSupplier(
+            () -> ChangeEvents.stream(view.getChangeFeed(), ChangeEvents.lastVersion(lastEventId, since))));
+    }
+
+    // Resolves the items up front so errors and empty results still map to a status, then streams them.
+    // CBOR is refused here and written by the servlet controller only.
+    private <T> Mono<ResponseEntity<Flux<DataBuffer>>> handleStreamingRequest(String dataset, Long version,
+            Function<IPlayerService, Mono<List<T>>> request, String format) {
+        MediaType mediaType;
+        if ("ndjson".equals(format)) {
+            mediaType = WireFormats.NDJSON;
+        } else if ("json".equals(format)) {
+            mediaType = MediaType.APPLICATION_JSON;
+        } else if ("smile".equals(format)) {
+            mediaType = WireFormats.SMILE;
+        } else if ("cbor".equals(format)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build());
+        } else {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+        }
+        MediaType contentType = mediaType;
+        return handleRequest(dataset, version, request).map(response -> {
+            List<T> items = response.getBody();
+            if (items == null) {
+                return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders())
+                    .<Flux<DataBuffer>>build();
+            }
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok().headers(response.getHeaders()).contentType(contentType);
+            // Offset stores parse each row as it is written, so iteration stays off the event loop too
+            return ok.body(encode(Flux.fromIterable(items).subscribeOn(Schedulers.boundedElastic()), format));
+        });
+    }
+
+    // One generator per response, drained after every item, so rows are encoded only as fast as the connection
+    // takes them. Jackson's WebFlux encoders frame a Flux with the JSON text '[' and ',' even for Smile, which
+    // no Smile reader accepts, so lists are written here as the servlet controller writes them.
+    private Flux<DataBuffer> encode(Flux<?> items, String format) {
+        ObjectMapper mapper = "smile".equals(format) ? this.smileMapper : this.objectMapper;
+        boolean ndjson = "ndjson".equals(format);
+        return Flux.defer(() -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonGenerator generator;
+            try {
+                generator = mapper.getFactory().createGenerator(out);
+                if (ndjson) {
+                    generator.setRootValueSeparator(null);
+                } else {
+                    generator.writeStartArray();
+                }
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+            return items.map(item -> {
+                try {
+                    generator.writeObject(item);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return drain(out);
+            }).concatWith(Mono.fromCallable(() -> {
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+                generator.close();
+                return drain(out);
+            }));
+        }).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    // The body type of an endpoint picks the encoder, so one that also streams writes pre-rendered bytes as a stream
+    private static ResponseEntity<Flux<DataBuffer>> asStream(ResponseEntity<byte[]> response) {
+        byte[] body = response.getBody();
+        return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders())
+            .body(body == null ? null : Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+    }
+
+    private static byte[] drain(ByteArrayOutputStream out) {
+        byte[] bytes = out.toByteArray();
+        out.reset();
+        return bytes;
+    }
+
+    // Writes pre-rendered bytes, answering 304 when the client already holds this snapshot's version
+    private Mono<ResponseEntity<byte[]>> handleCachedRequest(Mono<CachedResponse> action, String ifNoneMatch,
+            String acceptEncoding) {
+        return action.map(cached -> CachedResponses.toResponse(cached, ifNoneMatch, acceptEncoding))
+            .switchIfEmpty(Mono.fromSupplier(() -> CachedResponses.toResponse(null, ifNoneMatch, acceptEncoding)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> Mono.just(failure(e)));
+    }
+
+    // Common method to handle requests; lookups may read the file or build an index, so they run on the
+    // bounded elastic scheduler. Every read of one request comes from the snapshot it reports in its
+    // headers, the current one unless the client pinned a version it was given earlier.
+    private <T> Mono<ResponseEntity<T>> handleRequest(String dataset, Long version,
+            Function<IPlayerService, Mono<T>> request) {
+        return Mono.defer(() -> {
+            IPlayerService view = service(dataset).atVersion(version);
+            HttpHeaders headers = SnapshotHeaders.of(view.getSnapshotVersion(), view.getContentHash());
+            return request.apply(view)
+                .map(result -> result instanceof List && ((List<?>) result).isEmpty()
+                    ? ResponseEntity.status(HttpStatus.NO_CONTENT).headers(headers).<T>build()
+                    : ResponseEntity.ok().headers(headers).body(result))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NO_CONTENT).headers(headers).build());
+        }).subscribeOn(Schedulers.boundedElastic()).onErrorResume(e -> Mono.just(failure(e)));
+    }
+
+    // A dataset path segment selects a named roster; without one, requests go to the default dataset
+    private IPlayerService service(String dataset) {
+        return this.datasets.getService(dataset);
+    }
+
+    // The leader runs the lookup on its worker thread; followers subscribe to its future rather than block on it.
+    // A follower that goes away must not cancel the future the other followers are waiting on.
+    private <T> Mono<T> coalesce(String key, Supplier<T> action) {
+        return Mono.fromFuture(() -> this.coalescer.submit(key, action), true);
+    }
+
+    private <T> ResponseEntity<T> failure(Throwable e) {
+        if (e instanceof SnapshotExpiredException expired) {
+            return ResponseEntity.status(HttpStatus.GONE).headers(SnapshotHeaders.current(expired.getCurrentVersion()))
+                .build();
+        }
+        if (e instanceof NoSuchElementException) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (e instanceof IndexOutOfBoundsException || e instanceof IllegalArgumentException) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        this.failureLogger.error("Request failed", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+}
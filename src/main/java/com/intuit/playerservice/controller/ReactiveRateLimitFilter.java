@@ -0,0 +1,52 @@
+package com.intuit.playerservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter;
+import java.net.InetSocketAddress;
+import reactor.core.publisher.Mono;
+
+/**
+ * The reactive counterpart of {@link RateLimitFilter}: over-budget API requests get 429 with
+ * Retry-After. Taking a token never blocks, so this runs on the event loop.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final IClientRateLimiter limiter;
+
+    @Autowired
+    public ReactiveRateLimitFilter(IClientRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        IClientRateLimiter.Budget budget = limiter.isEnabled()
+            ? RateLimits.budget(request.getPath().pathWithinApplication().value())
+            : null;
+        if (budget == null) {
+            return chain.filter(exchange);
+        }
+        String header = limiter.getClientHeader() == null ? null : request.getHeaders().getFirst(limiter.getClientHeader());
+        InetSocketAddress remote = request.getRemoteAddress();
+        String address = remote == null ? "unknown" : remote.getAddress() == null ? remote.getHostString()
+            : remote.getAddress().getHostAddress();
+        long waitNanos = limiter.tryAcquire(RateLimits.client(limiter, header, address), budget);
+        if (waitNanos > 0) {
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, RateLimits.retryAfter(waitNanos));
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,30 @@
+package com.intuit.playerservice.controller;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Response headers naming the snapshot a response was read from. Clients pass the version back as
+ * the version parameter to keep reading the same data across requests; the content hash tells them
+ * whether two versions, e.g. before and after a reload of an unchanged file, hold the same rows.
+ */
+final class SnapshotHeaders {
+    static final String VERSION = "X-Snapshot-Version";
+    static final String CONTENT_HASH = "X-Snapshot-Hash";
+
+    private SnapshotHeaders() {
+    }
+
+    static HttpHeaders of(long version, long contentHash) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(VERSION, Long.toString(version));
+        headers.set(CONTENT_HASH, String.format("%016x", contentHash));
+        return headers;
+    }
+
+    // A 410 for an expired pin tells the client which version to start over from
+    static HttpHeaders current(long version) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(VERSION, Long.toString(version));
+        return headers;
+    }
+}
@@ -0,0 +1,79 @@
+package com.intuit.playerservice.controller;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Media types the player API answers in. Smile and CBOR are binary encodings of the same Jackson
+ * data model as JSON: field names are written once per response instead of once per player, and
+ * numbers are not written as text. Plain endpoints negotiate them through the Accept header; the
+ * streaming endpoints also take a format parameter. Pre-rendered responses exist only as JSON, so
+ * a request that prefers a binary type bypasses the response cache.
+ */
+final class WireFormats {
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private WireFormats() {
+    }
+
+    // Smile or CBOR when the client ranks one of them above JSON, otherwise null
+    static MediaType preferredBinary(String accept) {
+        MediaType preferred = preferred(accept);
+        return preferred == SMILE || preferred == CBOR ? preferred : null;
+    }
+
+    // The format of a list negotiated through Accept alone: the highest ranked offered type, JSON by default
+    static String listFormat(String accept) {
+        MediaType preferred = preferred(accept);
+        return preferred == SMILE ? "smile" : preferred == CBOR ? "cbor" : preferred == NDJSON ? "ndjson" : "json";
+    }
+
+    // The offered type the client ranks highest, or null when it names none of them or only a wildcard
+    private static MediaType preferred(String accept) {
+        MediaType best = null;
+        double bestQuality = 0;
+        for (MediaType type : parse(accept)) {
+            boolean offered = type.isCompatibleWith(MediaType.APPLICATION_JSON) || type.isCompatibleWith(NDJSON)
+                || type.isCompatibleWith(SMILE) || type.isCompatibleWith(CBOR);
+            // Equal qualities keep the first listed type; a wildcard offers JSON
+            if (offered && type.getQualityValue() > bestQuality) {
+                best = type;
+                bestQuality = type.getQualityValue();
+            }
+        }
+        if (best == null || best.isWildcardType() || best.isWildcardSubtype()) {
+            return null;
+        }
+        for (MediaType offered : List.of(SMILE, CBOR, NDJSON, MediaType.APPLICATION_JSON)) {
+            if (best.equalsTypeAndSubtype(offered)) {
+                return offered;
+            }
+        }
+        return null;
+    }
+
+    // The streaming format to write: the format parameter when given, else Smile or CBOR if Accept prefers it
+    static String streamFormat(String format, String accept, String fallback) {
+        if (format != null) {
+            return format.toLowerCase(Locale.ROOT);
+        }
+        MediaType binary = preferredBinary(accept);
+        return binary == null ? fallback : binary == SMILE ? "smile" : "cbor";
+    }
+
+    private static List<MediaType> parse(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return List.of();
+        }
+        try {
+            return MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return List.of();
+        }
+    }
+}
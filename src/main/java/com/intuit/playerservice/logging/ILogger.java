@@ -1,7 +1,60 @@
 package com.intuit.playerservice.logging;
 
+import java.util.function.Supplier;
+import org.slf4j.helpers.MessageFormatter;
+
 public interface ILogger {
     void info(String message);
     void warn(String message);
     void error(String message, Throwable throwable);
-}
\ No newline at end of file
+
+    default boolean isDebugEnabled() {
+        return false;
+    }
+
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    default boolean isWarnEnabled() {
+        return true;
+    }
+
+    default void debug(String message) {
+    }
+
+    // Parameterized messages use SLF4J's {} placeholders and are only built when the level is enabled
+    default void debug(String format, Object... args) {
+        if (isDebugEnabled()) {
+            debug(format(format, args));
+        }
+    }
+
+    default void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            debug(message.get());
+        }
+    }
+
+    default void info(String format, Object... args) {
+        if (isInfoEnabled()) {
+            info(format(format, args));
+        }
+    }
+
+    default void info(Supplier<String> message) {
+        if (isInfoEnabled()) {
+            info(message.get());
+        }
+    }
+
+    default void warn(String format, Object... args) {
+        if (isWarnEnabled()) {
+            warn(format(format, args));
+        }
+    }
+
+    private static String format(String format, Object... args) {
+        return MessageFormatter.arrayFormat(format, args).getMessage();
+    }
+}
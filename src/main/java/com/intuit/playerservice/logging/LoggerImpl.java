@@ -1,5 +1,6 @@
 package com.intuit.playerservice.logging;
 
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -12,18 +13,68 @@ public class LoggerImpl implements ILogger {
         this.logger = LoggerFactory.getLogger(LoggerImpl.class);
     }
 
+    @Override
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
+    }
+
+    @Override
+    public void debug(String message) {
+        logger.debug(message);
+    }
+
+    // SLF4J checks the level before formatting, so a disabled call costs only the varargs array
+    @Override
+    public void debug(String format, Object... args) {
+        logger.debug(format, args);
+    }
+
+    @Override
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
     @Override
     public void info(String message) {
         logger.info(message);
     }
 
+    @Override
+    public void info(String format, Object... args) {
+        logger.info(format, args);
+    }
+
+    @Override
+    public void info(Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
+    }
+
     @Override
     public void warn(String message) {
         logger.warn(message);
     }
 
+    @Override
+    public void warn(String format, Object... args) {
+        logger.warn(format, args);
+    }
+
     @Override
     public void error(String message, Throwable throwable) {
         logger.error(message, throwable);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.intuit.playerservice.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lets at most one message through per interval for events that can fire on every request.
+ * Messages inside the interval are dropped without being formatted, and the next message that
+ * gets through carries the number dropped, so a burst still shows up in the log as one line.
+ */
+public class RateLimitedLogger implements ILogger {
+
+    private final ILogger delegate;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextAllowed;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(ILogger delegate, Duration interval) {
+        this(delegate, interval, System::nanoTime);
+    }
+
+    public RateLimitedLogger(ILogger delegate, Duration interval, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextAllowed = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    @Override
+    public void debug(String message) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(withSuppressed(message));
+        }
+    }
+
+    @Override
+    public void debug(String format, Object... args) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(withSuppressed(format), args);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> message) {
+        if (delegate.isDebugEnabled() && acquire()) {
+            delegate.debug(withSuppressed(message.get()));
+        }
+    }
+
+    @Override
+    public void info(String message) {
+        if (delegate.isInfoEnabled() && acquire()) {
+            delegate.info(withSuppressed(message));
+        }
+    }
+
+    @Override
+    public void info(String format, Object... args) {
+        if (delegate.isInfoEnabled() && acquire()) {
+            delegate.info(withSuppressed(format), args);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> message) {
+        if (delegate.isInfoEnabled() && acquire()) {
+            delegate.info(withSuppressed(message.get()));
+        }
+    }
+
+    @Override
+    public void warn(String message) {
+        if (delegate.isWarnEnabled() && acquire()) {
+            delegate.warn(withSuppressed(message));
+        }
+    }
+
+    @Override
+    public void warn(String format, Object... args) {
+        if (delegate.isWarnEnabled() && acquire()) {
+            delegate.warn(withSuppressed(format), args);
+        }
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+        if (acquire()) {
+            delegate.error(withSuppressed(message), throwable);
+        }
+    }
+
+    // One thread wins each interval; the rest only bump the counter
+    private boolean acquire() {
+        long now = nanoClock.getAsLong();
+        long next = nextAllowed.get();
+        if (now - next >= 0 && nextAllowed.compareAndSet(next, now + intervalNanos)) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    // The count holds no placeholders, so it can be appended to a format as well as to a message
+    private String withSuppressed(String message) {
+        long dropped = suppressed.getAndSet(0);
+        return dropped == 0 ? message : message + " (" + dropped + " similar messages suppressed)";
+    }
+}
@@ -0,0 +1,32 @@
+package com.intuit.playerservice.metrics;
+
+import org.springframework.stereotype.Component;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the file watcher's own event counters; nothing is recorded on the watch thread.
+ */
+@Component
+public class FileWatcherMetrics implements MeterBinder {
+    private final IFileWatcherService fileWatcherService;
+
+    public FileWatcherMetrics(IFileWatcherService fileWatcherService) {
+        this.fileWatcherService = fileWatcherService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.watcher.events", fileWatcherService, IFileWatcherService::getEventsReceived)
+            .description("File system events received for registered files")
+            .register(registry);
+        FunctionCounter.builder("player.watcher.events.coalesced", fileWatcherService, IFileWatcherService::getEventsCoalesced)
+            .description("Received events folded into an already pending change")
+            .register(registry);
+        FunctionCounter.builder("player.watcher.reloads", fileWatcherService, IFileWatcherService::getChangesDispatched)
+            .description("Settled changes handed to the reload listener")
+            .register(registry);
+    }
+}
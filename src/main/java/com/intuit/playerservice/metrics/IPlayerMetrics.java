@@ -0,0 +1,21 @@
+package com.intuit.playerservice.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter;
+
+public interface IPlayerMetrics {
+    // Index a single-player lookup went through
+    enum Lookup { PLAYER_ID, RETRO_ID, BBREF_ID }
+
+    void recordLoad(String mode, long elapsedNanos, int rows);
+    void recordLoadFailure(String mode, Throwable cause);
+    void recordLookup(Lookup lookup, boolean hit);
+    // Hits, misses, evictions and hit ratio of a dataset's parsed-row cache; the cache must record stats
+    void monitorRowCache(String dataset, Cache<?, ?> cache);
+    // A request that was answered with the result of an identical request already in flight
+    void recordCoalesced();
+    // A request refused because the client had used up the given budget
+    void recordRateLimited(IClientRateLimiter.Budget budget);
+    // A change-feed subscriber disconnected for falling too far behind the reloads
+    void recordChangeFeedOverflow();
+}
@@ -0,0 +1,121 @@
+package com.intuit.playerservice.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for loads and lookups. Lookup counters are resolved once up front and indexed
+ * by lookup and result, so the read path only pays for an uncontended adder increment; there is
+ * no tag resolution or registry access per call.
+ */
+@Component
+public class PlayerMetrics implements IPlayerMetrics {
+    private static final String ROW_CACHE = "player.rows";
+
+    private final MeterRegistry registry;
+    // [lookup][0 = miss, 1 = hit]
+    private final Counter[][] lookups = new Counter[Lookup.values().length][2];
+    private final DistributionSummary loadedRows;
+    private final Counter coalesced;
+    private final Counter changeFeedOverflows;
+    // Indexed by budget
+    private final Counter[] rateLimited = new Counter[IClientRateLimiter.Budget.values().length];
+
+    @Autowired
+    public PlayerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Lookup lookup : Lookup.values()) {
+            String index = lookup.name().toLowerCase(Locale.ROOT).replace('_', '-');
+            lookups[lookup.ordinal()][0] = Counter.builder("player.lookups")
+                .description("Single-player lookups by index and result")
+                .tags("index", index, "result", "miss")
+                .register(registry);
+            lookups[lookup.ordinal()][1] = Counter.builder("player.lookups")
+                .description("Single-player lookups by index and result")
+                .tags("index", index, "result", "hit")
+                .register(registry);
+        }
+        this.loadedRows = DistributionSummary.builder("player.load.rows")
+            .description("Rows in each successfully loaded snapshot")
+            .baseUnit("rows")
+            .register(registry);
+        this.coalesced = Counter.builder("player.requests.coalesced")
+            .description("Requests answered with the result of an identical request already in flight")
+            .register(registry);
+        this.changeFeedOverflows = Counter.builder("player.changes.overflows")
+            .description("Change-feed subscribers disconnected for falling too far behind")
+            .register(registry);
+        for (IClientRateLimiter.Budget budget : IClientRateLimiter.Budget.values()) {
+            rateLimited[budget.ordinal()] = Counter.builder("player.requests.rejected")
+                .description("Requests refused with 429 because the client had used up its budget")
+                .tag("budget", budget.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+        }
+    }
+
+    // Meters registered here go nowhere; used where no registry is wired, e.g. tests and benchmarks
+    public static PlayerMetrics disabled() {
+        return new PlayerMetrics(new CompositeMeterRegistry());
+    }
+
+    @Override
+    public void recordLoad(String mode, long elapsedNanos, int rows) {
+        Timer.builder("player.load")
+            .description("Time to load the roster and publish a new snapshot")
+            .tag("mode", mode)
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        loadedRows.record(rows);
+    }
+
+    @Override
+    public void recordLoadFailure(String mode, Throwable cause) {
+        Counter.builder("player.load.failures")
+            .description("Loads that failed, e.g. on unreadable files or CSV parse errors")
+            .tags("mode", mode, "exception", cause.getClass().getSimpleName())
+            .register(registry)
+            .increment();
+    }
+
+    @Override
+    public void recordLookup(Lookup lookup, boolean hit) {
+        lookups[lookup.ordinal()][hit ? 1 : 0].increment();
+    }
+
+    @Override
+    public void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    @Override
+    public void recordRateLimited(IClientRateLimiter.Budget budget) {
+        rateLimited[budget.ordinal()].increment();
+    }
+
+    @Override
+    public void recordChangeFeedOverflow() {
+        changeFeedOverflows.increment();
+    }
+
+    // Standard cache.gets/cache.evictions/cache.eviction.weight meters, plus the hit ratio they imply
+    @Override
+    public void monitorRowCache(String dataset, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, ROW_CACHE, "dataset", dataset);
+        Gauge.builder("cache.hit.ratio", cache, rows -> rows.stats().hitRate())
+            .description("Share of row reads served from the cache")
+            .tags("cache", ROW_CACHE, "dataset", dataset)
+            .register(registry);
+    }
+}
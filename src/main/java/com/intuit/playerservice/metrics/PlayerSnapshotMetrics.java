@@ -0,0 +1,52 @@
+package com.intuit.playerservice.metrics;
+
+import org.springframework.stereotype.Component;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gauges over the repository's current snapshot, read only when metrics are scraped.
+ */
+@Component
+public class PlayerSnapshotMetrics implements MeterBinder {
+    private final IPlayerRepository playerRepository;
+
+    public PlayerSnapshotMetrics(IPlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.snapshot.version", playerRepository, repository -> repository.getSnapshot().getVersion())
+            .description("Version of the snapshot being served")
+            .register(registry);
+        Gauge.builder("player.snapshot.rows", playerRepository, repository -> repository.getSnapshot().size())
+            .description("Players in the snapshot being served")
+            .baseUnit("rows")
+            .register(registry);
+        TimeGauge.builder("player.snapshot.age", playerRepository, TimeUnit.MILLISECONDS, PlayerSnapshotMetrics::ageMillis)
+            .description("Time since the snapshot being served was loaded")
+            .register(registry);
+        // One gauge per status, 1 for the current one, so dashboards can alert on STALE or FAILED
+        for (PlayerSnapshot.LoadStatus status : PlayerSnapshot.LoadStatus.values()) {
+            Gauge.builder("player.snapshot.status", playerRepository,
+                    repository -> repository.getSnapshot().getStatus() == status ? 1 : 0)
+                .description("Load status of the snapshot being served")
+                .tag("status", status.name())
+                .register(registry);
+        }
+    }
+
+    private static double ageMillis(IPlayerRepository repository) {
+        Instant loadedAt = repository.getSnapshot().getLoadedAt();
+        return loadedAt == null ? Double.NaN : Duration.between(loadedAt, Instant.now()).toMillis();
+    }
+}
@@ -0,0 +1,88 @@
+package com.intuit.playerservice.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A JSON response body rendered once for a snapshot, with its strong ETag. The gzip form is
+ * produced the first time a client accepts it; concurrent first requests may both compress,
+ * which is harmless because the result is identical.
+ */
+public final class CachedResponse {
+    // Below this size gzip framing costs more than it saves
+    private static final int MIN_GZIP_BYTES = 1024;
+    private static final String GZIP_SUFFIX = "-gz";
+
+    private final byte[] json;
+    private final String tag;
+    // The snapshot the body was rendered from
+    private final long snapshotVersion;
+    private final long contentHash;
+    private volatile byte[] gzip;
+
+    public CachedResponse(byte[] json, String tag, long snapshotVersion, long contentHash) {
+        this.json = json;
+        this.tag = tag;
+        this.snapshotVersion = snapshotVersion;
+        this.contentHash = contentHash;
+    }
+
+    public long getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public boolean isCompressible() {
+        return json.length >= MIN_GZIP_BYTES;
+    }
+
+    public byte[] getGzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    // The gzip body is a different representation, so it gets its own strong ETag
+    public String getETag(boolean gzipped) {
+        return "\"" + tag + (gzipped ? GZIP_SUFFIX : "") + "\"";
+    }
+
+    // If-None-Match uses weak comparison, so either representation's tag, with or without W/, matches
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(getETag(false)) || value.equals(getETag(true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
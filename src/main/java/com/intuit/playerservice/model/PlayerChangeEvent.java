@@ -0,0 +1,19 @@
+package com.intuit.playerservice.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// What one reload changed: the new rows it added and updated and the playerIDs it removed.
+// A reset carries no rows; the changes since previousVersion are unknown and the client has to refetch the roster.
+@Data
+@AllArgsConstructor
+public class PlayerChangeEvent {
+    private long version;
+    private long previousVersion;
+    private boolean reset;
+    private List<Player> added;
+    private List<Player> updated;
+    private List<String> removed;
+}
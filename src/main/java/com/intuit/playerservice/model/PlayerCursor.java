@@ -0,0 +1,48 @@
+package com.intuit.playerservice.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. It carries only the last playerID on a page;
+ * the next page starts after that ID in whatever snapshot serves it, so a reload between requests
+ * neither repeats nor skips rows that exist in both files. Clients that want every page from one
+ * snapshot pin it with the version parameter instead.
+ */
+public final class PlayerCursor {
+    private static final String PREFIX = "v2:";
+    // Tokens handed out before the version was dropped; the version they carry is ignored
+    private static final String VERSIONED_PREFIX = "v1:";
+
+    private final String lastPlayerId;
+
+    public PlayerCursor(String lastPlayerId) {
+        this.lastPlayerId = lastPlayerId;
+    }
+
+    public String getLastPlayerId() {
+        return lastPlayerId;
+    }
+
+    public String encode() {
+        String raw = PREFIX + lastPlayerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PlayerCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+        if (raw.startsWith(PREFIX)) {
+            return new PlayerCursor(raw.substring(PREFIX.length()));
+        }
+        int separator = raw.indexOf(':', VERSIONED_PREFIX.length());
+        if (!raw.startsWith(VERSIONED_PREFIX) || separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        return new PlayerCursor(raw.substring(separator + 1));
+    }
+}
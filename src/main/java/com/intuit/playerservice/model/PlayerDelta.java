@@ -0,0 +1,154 @@
+package com.intuit.playerservice.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Result of an incremental load: the new rows in file order plus what changed relative to
+ * the previous snapshot, keyed by playerID. Rows that did not change are the previous
+ * snapshot's {@link Player} objects, so a reload only allocates what was actually edited.
+ */
+public final class PlayerDelta {
+    // Past this share of changed rows rebuilding indexes is as cheap as patching them
+    private static final int PATCH_MAX_CHANGE_RATIO = 4;
+
+    private final List<Player> players;
+    private final Map<String, Long> rowHashes;
+    private final List<Player> added;
+    private final List<Player> updated;
+    private final List<Player> superseded;
+    private final List<Player> removed;
+    private final boolean duplicateIds;
+
+    private PlayerDelta(List<Player> players, Map<String, Long> rowHashes, List<Player> added,
+            List<Player> updated, List<Player> superseded, List<Player> removed, boolean duplicateIds) {
+        this.players = players;
+        this.rowHashes = rowHashes;
+        this.added = Collections.unmodifiableList(added);
+        this.updated = Collections.unmodifiableList(updated);
+        this.superseded = Collections.unmodifiableList(superseded);
+        this.removed = Collections.unmodifiableList(removed);
+        this.duplicateIds = duplicateIds;
+    }
+
+    /**
+     * Diffs freshly loaded rows against the previous snapshot. Rows equal to their previous
+     * version are swapped for the previous object; rows a loader already reused are recognised by identity.
+     */
+    public static PlayerDelta compare(PlayerSnapshot previous, List<Player> loaded, Map<String, Long> rowHashes) {
+        List<Player> players = new ArrayList<>(loaded.size());
+        List<Player> added = new ArrayList<>();
+        List<Player> updated = new ArrayList<>();
+        List<Player> superseded = new ArrayList<>();
+        Set<String> seen = new HashSet<>((int) (loaded.size() / 0.75f) + 1);
+        boolean duplicateIds = false;
+
+        for (Player player : loaded) {
+            String id = player.getPlayerID();
+            if (!seen.add(id)) {
+                duplicateIds = true;
+            }
+            Optional<Player> before = previous.getById(id);
+            if (before.isEmpty()) {
+                added.add(player);
+                players.add(player);
+            } else if (before.get() == player || before.get().equals(player)) {
+                players.add(before.get());
+            } else {
+                updated.add(player);
+                superseded.add(before.get());
+                players.add(player);
+            }
+        }
+
+        List<Player> removed = new ArrayList<>();
+        for (Player player : previous.getPlayers()) {
+            if (!seen.contains(player.getPlayerID())) {
+                removed.add(player);
+            }
+        }
+        return new PlayerDelta(players, rowHashes, added, updated, superseded, removed, duplicateIds);
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    // Hash of each raw CSV row by playerID; empty when the loader does not hash rows
+    public Map<String, Long> getRowHashes() {
+        return rowHashes;
+    }
+
+    public List<Player> getAdded() {
+        return added;
+    }
+
+    // New versions of changed rows, in the same order as getSuperseded()
+    public List<Player> getUpdated() {
+        return updated;
+    }
+
+    // Previous versions of changed rows, in the same order as getUpdated()
+    public List<Player> getSuperseded() {
+        return superseded;
+    }
+
+    public List<Player> getRemoved() {
+        return removed;
+    }
+
+    // The change feed's event for this delta, taking previousVersion to version
+    public PlayerChangeEvent toChangeEvent(long previousVersion, long version) {
+        List<String> removedIds = removed.stream().map(Player::getPlayerID).toList();
+        return new PlayerChangeEvent(version, previousVersion, false, added, updated, removedIds);
+    }
+
+    public boolean hasDuplicateIds() {
+        return duplicateIds;
+    }
+
+    public int changeCount() {
+        return added.size() + updated.size() + removed.size();
+    }
+
+    public boolean isEmpty() {
+        return changeCount() == 0;
+    }
+
+    // Whether indexes over previousSize rows are worth patching rather than rebuilding
+    public boolean isSmall(int previousSize) {
+        return changeCount() * PATCH_MAX_CHANGE_RATIO <= previousSize;
+    }
+
+    /**
+     * Rows that differ from the previous rows at the same position, appended rows included, or null
+     * when a row was removed or moved. Only in the first case do row-numbered indexes of the previous
+     * rows still describe every row that did not change.
+     */
+    public int[] changedRows(List<Player> previous) {
+        if (!removed.isEmpty() || duplicateIds || players.size() < previous.size()) {
+            return null;
+        }
+        int[] changed = new int[updated.size() + added.size()];
+        int count = 0;
+        for (int row = 0; row < players.size(); row++) {
+            Player player = players.get(row);
+            if (row >= previous.size()) {
+                changed[count++] = row;
+            } else if (player != previous.get(row)) {
+                if (!Objects.equals(player.getPlayerID(), previous.get(row).getPlayerID())) {
+                    return null;
+                }
+                changed[count++] = row;
+            }
+        }
+        return count == changed.length ? changed : Arrays.copyOf(changed, count);
+    }
+}
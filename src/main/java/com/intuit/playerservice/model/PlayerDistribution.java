@@ -0,0 +1,18 @@
+package com.intuit.playerservice.model;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Summary of one numeric field over the rows that have a value; histogram keys are bucket lower bounds
+@Data
+@AllArgsConstructor
+public class PlayerDistribution {
+    private int count;
+    private double min;
+    private double max;
+    private double mean;
+    private int bucketWidth;
+    private Map<Integer, Integer> histogram;
+}
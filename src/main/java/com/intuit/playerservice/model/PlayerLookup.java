@@ -0,0 +1,16 @@
+package com.intuit.playerservice.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One entry of a batch lookup: the requested ID and its player, or found=false when there is none
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlayerLookup {
+    private String id;
+    private boolean found;
+    private Player player;
+}
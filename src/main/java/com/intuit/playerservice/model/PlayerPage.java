@@ -0,0 +1,15 @@
+package com.intuit.playerservice.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One page of a keyset scan; nextCursor is null on the last page
+@Data
+@AllArgsConstructor
+public class PlayerPage {
+    private List<Player> players;
+    private String nextCursor;
+    private long snapshotVersion;
+}
@@ -0,0 +1,26 @@
+package com.intuit.playerservice.model;
+
+import lombok.Data;
+
+// Filters for the search endpoint; null fields do not filter. String matches ignore case.
+@Data
+public class PlayerQuery {
+    private String birthCountry;
+    private String birthState;
+    private String birthCity;
+    private String bats;
+    private String playerThrows;
+    // Inclusive birth-year range
+    private Integer birthYearFrom;
+    private Integer birthYearTo;
+    // Inclusive debut-date range, yyyy-MM-dd
+    private String debutFrom;
+    private String debutTo;
+    // true: no death year recorded, false: deceased
+    private Boolean living;
+    // playerID, nameFirst, nameLast, birthYear, debut, weight or height; file order when null
+    private String sort;
+    private boolean descending;
+    private int offset = 0;
+    private int limit = 100;
+}
@@ -0,0 +1,15 @@
+package com.intuit.playerservice.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One window of a search; total counts every match, not just the rows returned
+@Data
+@AllArgsConstructor
+public class PlayerSearchResult {
+    private List<Player> players;
+    private int total;
+    private long snapshotVersion;
+}
@@ -0,0 +1,304 @@
+package com.intuit.playerservice.model;
+
+import com.intuit.playerservice.repository.index.PlayerNameIndex;
+import com.intuit.playerservice.repository.index.PlayerSearchIndex;
+import com.intuit.playerservice.repository.index.PlayerStatistics;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
+import com.intuit.playerservice.repository.store.ListPlayerStore;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable view of one player load: the stored rows with their ID indexes and the load status.
+ * A snapshot is fully built before it is published, so readers holding a reference
+ * always see rows and indexes that belong together and never need a lock.
+ */
+public final class PlayerSnapshot {
+    public enum LoadStatus {
+        // Nothing has been loaded yet
+        NOT_LOADED,
+        // The last load succeeded
+        LOADED,
+        // A reload failed; the data from the last good load is still served
+        STALE,
+        // Loading failed and there is no good data to serve
+        FAILED
+    }
+
+    public static final PlayerSnapshot EMPTY = new PlayerSnapshot(ListPlayerStore.EMPTY, PlayerSearchIndex.EMPTY,
+        PlayerNameIndex.EMPTY, null, Map.of(), null, 0, LoadStatus.NOT_LOADED, null, null);
+
+    private final IPlayerStore store;
+    // Built before publication, or on first use for stores that read rows from disk
+    private volatile PlayerSearchIndex searchIndex;
+    private volatile PlayerNameIndex nameIndex;
+    // Aggregates served to dashboards until the next snapshot replaces this one
+    private volatile PlayerStats stats;
+    private final Map<String, Long> rowHashes;
+    // What the incremental load that built this snapshot changed; null after a full load
+    private final PlayerChangeEvent changes;
+    private final long version;
+    // Hashing visits every row, so it waits for the first request that reports it
+    private volatile Long contentHash;
+    private final LoadStatus status;
+    private final String loadError;
+    private final Instant loadedAt;
+    // Rows ordered by playerID for keyset pagination, built on first use
+    private volatile KeysetIndex keysetIndex;
+
+    private PlayerSnapshot(IPlayerStore store, PlayerSearchIndex searchIndex, PlayerNameIndex nameIndex,
+            PlayerStats stats, Map<String, Long> rowHashes, PlayerChangeEvent changes, long version, LoadStatus status,
+            String loadError, Instant loadedAt) {
+        this(store, searchIndex, nameIndex, stats, rowHashes, changes, version, null, status, loadError, loadedAt);
+    }
+
+    private PlayerSnapshot(IPlayerStore store, PlayerSearchIndex searchIndex, PlayerNameIndex nameIndex,
+            PlayerStats stats, Map<String, Long> rowHashes, PlayerChangeEvent changes, long version,
+            Long contentHash, LoadStatus status, String loadError, Instant loadedAt) {
+        this.store = store;
+        this.contentHash = contentHash;
+        this.searchIndex = searchIndex;
+        this.nameIndex = nameIndex;
+        this.stats = stats;
+        this.rowHashes = rowHashes;
+        this.changes = changes;
+        this.version = version;
+        this.status = status;
+        this.loadError = loadError;
+        this.loadedAt = loadedAt;
+    }
+
+    public static PlayerSnapshot loaded(List<Player> players, long version) {
+        return loaded(new ListPlayerStore(players), version);
+    }
+
+    public static PlayerSnapshot loaded(IPlayerStore store, long version) {
+        return indexed(store, Map.of(), null, version);
+    }
+
+    // For stores too large to read in full up front: the search and name indexes and the stats are built on first use
+    public static PlayerSnapshot unindexed(IPlayerStore store, long version) {
+        return new PlayerSnapshot(store, null, null, null, Map.of(), null, version, LoadStatus.LOADED, null,
+            Instant.now());
+    }
+
+    /**
+     * Snapshot following an incremental load. A list store shares the previous ID indexes. When rows
+     * were only edited or appended, the search and name indexes are patched from the previous ones;
+     * large changes and removed or reordered rows rebuild them. The stats are always recomputed here,
+     * on the reloading thread, so no request pays for them.
+     */
+    public static PlayerSnapshot fromDelta(PlayerSnapshot previous, PlayerDelta delta, long version) {
+        Map<String, Long> rowHashes = Collections.unmodifiableMap(delta.getRowHashes());
+        PlayerChangeEvent changes = delta.toChangeEvent(previous.getVersion(), version);
+        if (!(previous.store instanceof ListPlayerStore)) {
+            return indexed(new ListPlayerStore(delta.getPlayers()), rowHashes, changes, version);
+        }
+        IPlayerStore store = ListPlayerStore.fromDelta((ListPlayerStore) previous.store, delta);
+        int[] changedRows = delta.isSmall(previous.size()) ? delta.changedRows(previous.getPlayers()) : null;
+        if (changedRows == null) {
+            return indexed(store, rowHashes, changes, version);
+        }
+        List<Player> players = store.asList();
+        // An index the previous snapshot never built stays unbuilt until it is first used
+        PlayerSearchIndex searchIndex = previous.searchIndex == null ? null
+            : previous.searchIndex.withChanges(players, changedRows);
+        PlayerNameIndex nameIndex = previous.nameIndex == null ? null
+            : previous.nameIndex.withChanges(players, changedRows);
+        return new PlayerSnapshot(store, searchIndex, nameIndex, PlayerStatistics.compute(players, version), rowHashes,
+            changes, version, LoadStatus.LOADED, null, Instant.now());
+    }
+
+    // A freshly loaded store gets its search and name indexes and its stats before the snapshot is published
+    private static PlayerSnapshot indexed(IPlayerStore store, Map<String, Long> rowHashes, PlayerChangeEvent changes,
+            long version) {
+        List<Player> players = store.asList();
+        return new PlayerSnapshot(store, new PlayerSearchIndex(players), new PlayerNameIndex(players),
+            PlayerStatistics.compute(players, version), rowHashes, changes, version, LoadStatus.LOADED, null,
+            Instant.now());
+    }
+
+    // Keeps the data of this snapshot and records why the latest load did not replace it
+    public PlayerSnapshot withLoadError(String loadError) {
+        LoadStatus failedStatus = (status == LoadStatus.LOADED || status == LoadStatus.STALE)
+            ? LoadStatus.STALE
+            : LoadStatus.FAILED;
+        return new PlayerSnapshot(store, searchIndex, nameIndex, stats, rowHashes, changes, version, contentHash,
+            failedStatus, loadError, loadedAt);
+    }
+
+    public IPlayerStore getStore() {
+        return store;
+    }
+
+    // Racing readers of an unindexed snapshot may both build an index; as with the keyset index, either result serves
+    public PlayerSearchIndex getSearchIndex() {
+        PlayerSearchIndex index = this.searchIndex;
+        if (index == null) {
+            index = new PlayerSearchIndex(store.asList());
+            this.searchIndex = index;
+        }
+        return index;
+    }
+
+    public PlayerNameIndex getNameIndex() {
+        PlayerNameIndex index = this.nameIndex;
+        if (index == null) {
+            index = new PlayerNameIndex(store.asList());
+            this.nameIndex = index;
+        }
+        return index;
+    }
+
+    public PlayerStats getStats() {
+        PlayerStats computed = this.stats;
+        if (computed == null) {
+            computed = PlayerStatistics.compute(store.asList(), version);
+            this.stats = computed;
+        }
+        return computed;
+    }
+
+    public List<Player> getPlayers() {
+        return store.asList();
+    }
+
+    public Optional<Player> getById(String id) {
+        return store.getById(id);
+    }
+
+    // Results are in request order; every ID is resolved against this one snapshot
+    public List<Optional<Player>> getByIds(List<String> ids) {
+        List<Optional<Player>> players = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            players.add(id == null ? Optional.empty() : store.getById(id));
+        }
+        return players;
+    }
+
+    public Optional<Player> getByRetroId(String retroId) {
+        return store.getByRetroId(retroId);
+    }
+
+    public Optional<Player> getByBbrefId(String bbrefId) {
+        return store.getByBbrefId(bbrefId);
+    }
+
+    public List<Player> getPage(int page, int size) {
+        List<Player> players = store.asList();
+        int fromIndex = (page - 1) * size;
+        if (fromIndex >= players.size()) {
+            throw new IndexOutOfBoundsException("Page number out of bounds: " + page);
+        }
+        int toIndex = Math.min(fromIndex + size, players.size());
+        return players.subList(fromIndex, toIndex);
+    }
+
+    // Up to size rows in playerID order whose ID sorts after afterId; null afterId starts from the beginning
+    public List<Player> getPageAfter(String afterId, int size) {
+        KeysetIndex index = keysetIndex();
+        int from = 0;
+        if (afterId != null) {
+            int found = Arrays.binarySearch(index.ids, afterId, KEY_ORDER);
+            from = found >= 0 ? found + 1 : -found - 1;
+        }
+        int to = (int) Math.min((long) from + size, index.rows.length);
+        List<Player> players = store.asList();
+        Player[] page = new Player[Math.max(0, to - from)];
+        for (int i = from; i < to; i++) {
+            page[i - from] = players.get(index.rows[i]);
+        }
+        return Arrays.asList(page);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    // False when rows are read from a file that a later load may rewrite, so the snapshot is only good while current
+    public boolean ownsRows() {
+        return store.ownsRows();
+    }
+
+    // Hash of each raw CSV row by playerID from the load that produced this snapshot; empty if not tracked
+    public Map<String, Long> getRowHashes() {
+        return rowHashes;
+    }
+
+    // Changes since getChanges().getPreviousVersion(), recorded by the incremental load; null after a full load
+    public PlayerChangeEvent getChanges() {
+        return changes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // Equal hashes mean the same rows in the same order; racing readers compute the same value
+    public long getContentHash() {
+        Long hash = this.contentHash;
+        if (hash == null) {
+            hash = store.getContentHash();
+            this.contentHash = hash;
+        }
+        return hash;
+    }
+
+    public LoadStatus getStatus() {
+        return status;
+    }
+
+    public String getLoadError() {
+        return loadError;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    // False only when there is no good data at all; a stale snapshot is still served
+    public boolean isAvailable() {
+        return status != LoadStatus.FAILED;
+    }
+
+    private static final Comparator<String> KEY_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    // Racing readers may both build it; the result is identical, so the last write wins harmlessly
+    private KeysetIndex keysetIndex() {
+        KeysetIndex index = this.keysetIndex;
+        if (index == null) {
+            index = new KeysetIndex(store);
+            this.keysetIndex = index;
+        }
+        return index;
+    }
+
+    private static final class KeysetIndex {
+        final int[] rows;
+        final String[] ids;
+
+        KeysetIndex(IPlayerStore store) {
+            String[] rowIds = new String[store.size()];
+            for (int row = 0; row < rowIds.length; row++) {
+                rowIds[row] = store.getPlayerId(row);
+            }
+            this.rows = IntStream.range(0, rowIds.length)
+                .boxed()
+                .sorted(Comparator.comparing(row -> rowIds[row], KEY_ORDER))
+                .mapToInt(Integer::intValue)
+                .toArray();
+            this.ids = new String[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                ids[i] = rowIds[rows[i]];
+            }
+        }
+    }
+}
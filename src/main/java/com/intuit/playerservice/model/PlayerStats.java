@@ -0,0 +1,21 @@
+package com.intuit.playerservice.model;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Aggregates over every row of one snapshot; rows with a blank value are left out of that field's counts
+@Data
+@AllArgsConstructor
+public class PlayerStats {
+    private int players;
+    private Map<String, Integer> birthCountries;
+    private Map<Integer, Integer> birthDecades;
+    // Keyed by bats/throws, e.g. "L/R"
+    private Map<String, Integer> batsThrows;
+    private PlayerDistribution height;
+    private PlayerDistribution weight;
+    private Map<Integer, Integer> debutYears;
+    private long snapshotVersion;
+}
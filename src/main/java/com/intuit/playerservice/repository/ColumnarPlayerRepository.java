@@ -0,0 +1,46 @@
+package com.intuit.playerservice.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.interfaces.IBinarySnapshotStore;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+import com.intuit.playerservice.repository.store.ColumnarPlayerStore;
+
+import java.util.List;
+
+/**
+ * Repository that keeps each snapshot in a {@link ColumnarPlayerStore} to cut the resident heap
+ * per replica. Parsed rows are encoded into columns and then dropped. Reads build Player objects
+ * on demand, so every reload is a full one: incremental reloads depend on reusing Player objects.
+ */
+@Repository
+@ConditionalOnProperty(name = "player.repository", havingValue = "columnar")
+public class ColumnarPlayerRepository extends PlayerRepository {
+
+    public ColumnarPlayerRepository(ILogger logger) {
+        this(logger, new ParallelPlayerCsvLoader(), BinarySnapshotStore.disabled());
+    }
+
+    public ColumnarPlayerRepository(ILogger logger, IPlayerCsvLoader csvLoader, IBinarySnapshotStore binarySnapshotStore) {
+        this(logger, csvLoader, binarySnapshotStore, PlayerMetrics.disabled());
+    }
+
+    @Autowired
+    public ColumnarPlayerRepository(ILogger logger, IPlayerCsvLoader csvLoader, IBinarySnapshotStore binarySnapshotStore,
+            IPlayerMetrics metrics) {
+        super(logger, csvLoader, binarySnapshotStore, false, metrics);
+    }
+
+    @Override
+    protected IPlayerStore createStore(List<Player> players) {
+        return new ColumnarPlayerStore(players);
+    }
+}
@@ -0,0 +1,94 @@
+package com.intuit.playerservice.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.loader.PlayerCsvFile;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+import com.intuit.playerservice.repository.store.OffsetPlayerStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Repository for rosters that do not fit on the heap. A load only scans the CSV for row offsets
+ * and IDs ({@link OffsetPlayerStore}); rows are parsed when requested, by default straight from a
+ * memory mapping of the file (see {@link PlayerCsvFile}), and kept in a cache bounded
+ * by estimated bytes, whose W-TinyLFU admission keeps one-off scans such as a full listing from
+ * flushing the hot rows. Every reload rescans the file, so binary snapshots and incremental reloads
+ * do not apply, and the search and name indexes are only built when those endpoints are first used.
+ */
+@Repository
+@ConditionalOnProperty(name = "player.repository", havingValue = "offset")
+public class OffsetPlayerRepository extends PlayerRepository {
+    public static final long DEFAULT_CACHE_BYTES = 64L * 1024 * 1024;
+
+    private final ILogger logger;
+    private final IPlayerMetrics metrics;
+    private final Cache<Long, Player> rowCache;
+    private final boolean mapped;
+    private final AtomicLong generation = new AtomicLong();
+
+    public OffsetPlayerRepository(ILogger logger) {
+        this(logger, DEFAULT_CACHE_BYTES, true, PlayerMetrics.disabled(), "default");
+    }
+
+    @Autowired
+    public OffsetPlayerRepository(ILogger logger, @Value("${player.row-cache.max-bytes:67108864}") long cacheBytes,
+            @Value("${player.offset.mmap:true}") boolean mapped, IPlayerMetrics metrics) {
+        this(logger, cacheBytes, mapped, metrics, "default");
+    }
+
+    public OffsetPlayerRepository(ILogger logger, long cacheBytes, boolean mapped, IPlayerMetrics metrics,
+            String dataset) {
+        super(logger, new ParallelPlayerCsvLoader(), BinarySnapshotStore.disabled(), false, metrics);
+        this.logger = logger;
+        this.metrics = metrics;
+        this.mapped = mapped;
+        this.rowCache = Caffeine.newBuilder()
+            .maximumWeight(cacheBytes)
+            .weigher((Long row, Player player) -> OffsetPlayerStore.weigh(player))
+            .recordStats()
+            .build();
+        metrics.monitorRowCache(dataset, rowCache);
+    }
+
+    @Override
+    public void loadPlayers(Path path) throws IOException {
+        logger.info("Indexing players in file: {}", path);
+        long start = System.nanoTime();
+        OffsetPlayerStore store;
+        PlayerCsvFile file = null;
+        try {
+            file = PlayerCsvFile.open(path, mapped);
+            store = OffsetPlayerStore.index(file, rowCache, generation.incrementAndGet());
+        } catch (IOException | RuntimeException e) {
+            if (file != null) {
+                file.close();
+            }
+            metrics.recordLoadFailure("offset", e);
+            throw e;
+        }
+        publish(PlayerSnapshot.unindexed(store, nextVersion()));
+        // Rows of earlier generations can no longer be asked for once readers move to the new snapshot
+        rowCache.asMap().keySet().removeIf(key -> (key >>> 32) < store.getGeneration());
+        long elapsedNanos = System.nanoTime() - start;
+        metrics.recordLoad("offset", elapsedNanos, store.size());
+        logger.info("Players indexed from file: {} ({} rows in {} ms, {} reads)", path, store.size(),
+            elapsedNanos / 1_000_000, mapped ? "mapped" : "positional");
+    }
+
+    public Cache<Long, Player> getRowCache() {
+        return rowCache;
+    }
+}
@@ -1,67 +1,206 @@
 package com.intuit.playerservice.repository;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
-import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.metrics.PlayerMetrics;
 import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IBinarySnapshotStore;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
 import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+import com.intuit.playerservice.repository.store.ListPlayerStore;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Repository
+@ConditionalOnProperty(name = "player.repository", havingValue = "list", matchIfMissing = true)
 public class PlayerRepository implements IPlayerRepository {
-    private volatile List<Player> playersCache = new ArrayList<>();
+    // Readers take the current snapshot once; reloads build a new one off to the side and swap it in
+    private final AtomicReference<PlayerSnapshot> snapshot = new AtomicReference<>(PlayerSnapshot.EMPTY);
+    // Starts from the wall clock, so a version handed out before a restart never names a snapshot of this run
+    private final AtomicLong versionCounter = new AtomicLong(System.currentTimeMillis());
     private ILogger logger;
+    private IPlayerCsvLoader csvLoader;
+    // Binary copy of the last good load, used to skip CSV parsing on startup
+    private IBinarySnapshotStore binarySnapshotStore;
+    // Incremental reloads diff against the current snapshot and only rebuild what changed
+    private boolean incrementalReload;
+    private IPlayerMetrics metrics;
 
     public PlayerRepository(ILogger logger) {
+        this(logger, new ParallelPlayerCsvLoader(), false);
+    }
+
+    public PlayerRepository(ILogger logger, IPlayerCsvLoader csvLoader, boolean incrementalReload) {
+        this(logger, csvLoader, BinarySnapshotStore.disabled(), incrementalReload);
+    }
+
+    public PlayerRepository(ILogger logger, IPlayerCsvLoader csvLoader, IBinarySnapshotStore binarySnapshotStore,
+            boolean incrementalReload) {
+        this(logger, csvLoader, binarySnapshotStore, incrementalReload, PlayerMetrics.disabled());
+    }
+
+    @Autowired
+    public PlayerRepository(ILogger logger, IPlayerCsvLoader csvLoader, IBinarySnapshotStore binarySnapshotStore,
+            @Value("${player.reload.incremental:false}") boolean incrementalReload, IPlayerMetrics metrics) {
         this.logger = logger;
+        this.csvLoader = csvLoader;
+        this.binarySnapshotStore = binarySnapshotStore;
+        this.incrementalReload = incrementalReload;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public PlayerSnapshot getSnapshot() {
+        return this.snapshot.get();
     }
 
     @Override
     public List<Player> getAll() {
-        logger.info("Fetching all players from cache.");
-        return this.playersCache;
+        logger.debug("Fetching all players from cache.");
+        return this.snapshot.get().getPlayers();
     }
 
     public List<Player> getPlayersPage(int page, int size) {
-        int fromIndex = (page - 1) * size;
-        if (fromIndex >= playersCache.size()) {
-            throw new IndexOutOfBoundsException("Page number out of bounds: " + page);
-        }
-        int toIndex = Math.min(fromIndex + size, playersCache.size());
-        return playersCache.subList(fromIndex, toIndex);
+        return this.snapshot.get().getPage(page, size);
     }
 
     @Override
     public void loadPlayers(Path path) throws IOException {
-        logger.info("Loading players from file: " + path);
+        logger.info("Loading players from file: {}", path);
+        PlayerSnapshot current = this.snapshot.get();
+        boolean hasData = current.getStatus() == PlayerSnapshot.LoadStatus.LOADED
+            || current.getStatus() == PlayerSnapshot.LoadStatus.STALE;
+        if (!hasData && loadBinarySnapshot(path)) {
+            return;
+        }
+        String mode = incrementalReload ? "incremental" : "full";
+        try {
+            if (incrementalReload) {
+                loadChanges(path);
+            } else {
+                loadAll(path);
+            }
+        } catch (IOException | RuntimeException e) {
+            metrics.recordLoadFailure(mode, e);
+            throw e;
+        }
+    }
 
-        CsvMapper csvMapper = new CsvMapper();
-        CsvSchema schema = CsvSchema.emptySchema().withHeader();
-        
-        MappingIterator<Player> it = csvMapper
-            .readerFor(Player.class)
-            .with(schema)
-            .readValues(path.toFile());
-        logger.info("CSV reading completed: " + path);
-        var tempCache = it.readAll();
-        this.playersCache = tempCache;
+    private void loadAll(Path path) throws IOException {
+        long start = System.nanoTime();
+        List<Player> players = csvLoader.load(path);
+        long elapsedNanos = System.nanoTime() - start;
+        publish(PlayerSnapshot.loaded(createStore(players), versionCounter.incrementAndGet()));
+        metrics.recordLoad("full", System.nanoTime() - start, players.size());
 
-        logger.info("Players loaded successfully from file: " + path);
+        long rowsPerSecond = elapsedNanos == 0 ? 0 : players.size() * 1_000_000_000L / elapsedNanos;
+        logger.info("Players loaded successfully from file: {} ({} rows in {} ms, {} rows/sec, {} loader)",
+            path, players.size(), elapsedNanos / 1_000_000, rowsPerSecond, csvLoader.getName());
+        writeBinarySnapshot(path, players);
+    }
+
+    // Returns false when there is no usable snapshot for this CSV, in which case the CSV is parsed
+    private boolean loadBinarySnapshot(Path path) {
+        if (!binarySnapshotStore.isEnabled()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        Optional<List<Player>> players;
+        try {
+            players = binarySnapshotStore.read(path);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable binary snapshot: {}", e.toString());
+            return false;
+        }
+        if (players.isEmpty()) {
+            logger.info("Binary snapshot missing or stale, parsing CSV: {}", path);
+            return false;
+        }
+        publish(PlayerSnapshot.loaded(createStore(players.get()), versionCounter.incrementAndGet()));
+        metrics.recordLoad("binary-snapshot", System.nanoTime() - start, players.get().size());
+        logger.info("Players loaded from binary snapshot for file: {} ({} rows in {} ms)",
+            path, players.get().size(), (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    // A failed write only costs the next startup a CSV parse, so it never fails the load
+    private void writeBinarySnapshot(Path path, List<Player> players) {
+        try {
+            binarySnapshotStore.write(path, players);
+        } catch (IOException e) {
+            logger.warn("Could not write binary snapshot: {}", e.toString());
+        }
+    }
+
+    private void loadChanges(Path path) throws IOException {
+        long start = System.nanoTime();
+        PlayerSnapshot previous = this.snapshot.get();
+        PlayerDelta delta = csvLoader.loadChanges(path, previous);
+        publish(PlayerSnapshot.fromDelta(previous, delta, versionCounter.incrementAndGet()));
+        long elapsedNanos = System.nanoTime() - start;
+        metrics.recordLoad("incremental", elapsedNanos, delta.getPlayers().size());
+
+        logger.info(
+            "Players reloaded incrementally from file: {} ({} added, {} changed, {} removed of {} rows in {} ms, {} loader)",
+            path, delta.getAdded().size(), delta.getUpdated().size(), delta.getRemoved().size(),
+            delta.getPlayers().size(), elapsedNanos / 1_000_000, csvLoader.getName());
+        if (!delta.isEmpty()) {
+            writeBinarySnapshot(path, delta.getPlayers());
+        }
+    }
+
+    // How a full load keeps its rows; subclasses may trade the Player list for a more compact layout
+    protected IPlayerStore createStore(List<Player> players) {
+        return new ListPlayerStore(players);
+    }
+
+    @Override
+    public void recordLoadFailure(String message) {
+        this.snapshot.updateAndGet(current -> current.withLoadError(message));
     }
 
     @Override
     public Optional<Player> getById(String id) {
-        logger.info("Fetching player by ID: " + id);
-        return this.playersCache.stream()
-            .filter(player -> player.getPlayerID().equals(id))
-            .findFirst();
+        return this.snapshot.get().getById(id);
+    }
+
+    @Override
+    public List<Optional<Player>> getByIds(List<String> ids) {
+        return this.snapshot.get().getByIds(ids);
+    }
+
+    @Override
+    public Optional<Player> getByRetroId(String retroId) {
+        return this.snapshot.get().getByRetroId(retroId);
+    }
+
+    @Override
+    public Optional<Player> getByBbrefId(String bbrefId) {
+        return this.snapshot.get().getByBbrefId(bbrefId);
+    }
+
+    // Every snapshot a load publishes takes the next version
+    protected long nextVersion() {
+        return versionCounter.incrementAndGet();
+    }
+
+    // Overlapping reloads may finish out of order; never replace a newer snapshot with an older one
+    protected void publish(PlayerSnapshot next) {
+        this.snapshot.accumulateAndGet(next,
+            (current, candidate) -> candidate.getVersion() > current.getVersion() ? candidate : current);
     }
-}
\ No newline at end of file
+}
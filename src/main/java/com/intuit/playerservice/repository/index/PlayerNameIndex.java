@@ -0,0 +1,406 @@
+package com.intuit.playerservice.repository.index;
+
+import com.intuit.playerservice.model.Player;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Type-ahead index over nameFirst, nameLast and nameGiven, built with each snapshot.
+ * Names are folded to lower-case ASCII and split into words, and every word goes into a trie
+ * whose nodes list the rows that have a word ending there. A query word matches any name word
+ * it is a prefix of; with edits allowed it matches words whose prefix is within that many
+ * single-character edits. Results come back closest first and, within the same distance,
+ * shortest completion first, so "griff" ranks "Griffey" before "Griffith".
+ * A reload that only edits or appends rows copies the trie paths of the words it changed and
+ * shares every other node with the previous index.
+ */
+public final class PlayerNameIndex {
+    public static final PlayerNameIndex EMPTY = new PlayerNameIndex(List.of());
+
+    // Larger distances match most of the roster for the short words typed into a search box
+    public static final int MAX_EDITS = 2;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern JOINERS = Pattern.compile("['.\\u2019]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private final Node root;
+    private final int maxDepth;
+    // Folded name words per row, used to check the query's other words against a candidate
+    private final String[][] rowWords;
+
+    public PlayerNameIndex(List<Player> players) {
+        this.rowWords = new String[players.size()][];
+        Map<String, String> folded = new HashMap<>();
+        Builder builder = new Builder();
+        for (int row = 0; row < players.size(); row++) {
+            // Names repeat heavily across the roster, so each distinct spelling is folded once
+            rowWords[row] = words(players.get(row), name -> folded.computeIfAbsent(name, PlayerNameIndex::fold));
+            for (String word : rowWords[row]) {
+                builder.add(word, row);
+            }
+        }
+        this.root = builder.freeze();
+        this.maxDepth = builder.maxDepth;
+    }
+
+    private PlayerNameIndex(Node root, int maxDepth, String[][] rowWords) {
+        this.root = root;
+        this.maxDepth = maxDepth;
+        this.rowWords = rowWords;
+    }
+
+    // The index of players: this index's rows with the given rows replaced or appended, every other row in place
+    public PlayerNameIndex withChanges(List<Player> players, int[] changedRows) {
+        String[][] words = Arrays.copyOf(rowWords, players.size());
+        Node patched = root;
+        int depth = maxDepth;
+        for (int row : changedRows) {
+            Set<String> before = row < rowWords.length ? Set.of(rowWords[row]) : Set.of();
+            words[row] = words(players.get(row), PlayerNameIndex::fold);
+            Set<String> after = Set.of(words[row]);
+            for (String word : before) {
+                if (!after.contains(word)) {
+                    patched = update(patched, word, 0, row, false);
+                }
+            }
+            for (String word : after) {
+                if (!before.contains(word)) {
+                    patched = update(patched, word, 0, row, true);
+                    depth = Math.max(depth, word.length());
+                }
+            }
+        }
+        return new PlayerNameIndex(patched, depth, words);
+    }
+
+    // The distinct folded words of a player's names, in name order
+    private static String[] words(Player player, Function<String, String> fold) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String name : new String[] { player.getNameFirst(), player.getNameLast(), player.getNameGiven() }) {
+            if (name != null && !name.isBlank()) {
+                words.addAll(Arrays.asList(fold.apply(name).split(" ")));
+            }
+        }
+        words.remove("");
+        return words.toArray(new String[0]);
+    }
+
+    // Copies the path to word with the row added to or removed from its node; emptied leaves are dropped
+    private static Node update(Node node, String word, int depth, int row, boolean add) {
+        if (depth == word.length()) {
+            int found = Arrays.binarySearch(node.rows, row);
+            if (add == (found >= 0)) {
+                return node;
+            }
+            int[] rows;
+            if (add) {
+                int at = -found - 1;
+                rows = new int[node.rows.length + 1];
+                System.arraycopy(node.rows, 0, rows, 0, at);
+                rows[at] = row;
+                System.arraycopy(node.rows, at, rows, at + 1, node.rows.length - at);
+            } else {
+                rows = new int[node.rows.length - 1];
+                System.arraycopy(node.rows, 0, rows, 0, found);
+                System.arraycopy(node.rows, found + 1, rows, found, rows.length - found);
+            }
+            return new Node(node.labels, node.children, rows);
+        }
+        char label = word.charAt(depth);
+        int index = Arrays.binarySearch(node.labels, label);
+        if (index < 0 && !add) {
+            return node;
+        }
+        Node child = update(index >= 0 ? node.children[index] : Node.LEAF, word, depth + 1, row, add);
+        if (index >= 0 && child == node.children[index]) {
+            return node;
+        }
+        char[] labels;
+        Node[] children;
+        if (index < 0) {
+            int at = -index - 1;
+            labels = new char[node.labels.length + 1];
+            children = new Node[node.children.length + 1];
+            System.arraycopy(node.labels, 0, labels, 0, at);
+            System.arraycopy(node.children, 0, children, 0, at);
+            labels[at] = label;
+            children[at] = child;
+            System.arraycopy(node.labels, at, labels, at + 1, node.labels.length - at);
+            System.arraycopy(node.children, at, children, at + 1, node.children.length - at);
+        } else if (child.rows.length == 0 && child.children.length == 0) {
+            labels = new char[node.labels.length - 1];
+            children = new Node[node.children.length - 1];
+            System.arraycopy(node.labels, 0, labels, 0, index);
+            System.arraycopy(node.children, 0, children, 0, index);
+            System.arraycopy(node.labels, index + 1, labels, index, labels.length - index);
+            System.arraycopy(node.children, index + 1, children, index, children.length - index);
+        } else {
+            labels = node.labels;
+            children = node.children.clone();
+            children[index] = child;
+        }
+        return new Node(labels, children, node.rows);
+    }
+
+    // Lower-case, accents stripped, apostrophes and dots dropped ("O'Neill" -> "oneill"), other punctuation splits words
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String plain = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(JOINERS.matcher(plain).replaceAll("")).replaceAll(" ").trim();
+    }
+
+    /**
+     * Rows whose names contain a word starting with each query word (within maxEdits edits), best
+     * match first, at most limit rows. The most selective query word drives the trie walk and the
+     * rest are checked against each candidate's words.
+     */
+    public List<Integer> search(String query, int maxEdits, int limit) {
+        String folded = fold(query);
+        if (folded.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] terms = folded.split(" ");
+        int[] edits = new int[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            // A word must keep at least one character that is not edited away
+            edits[i] = Math.max(0, Math.min(maxEdits, terms[i].length() - 1));
+        }
+
+        int driver = 0;
+        List<Match> driverMatches = null;
+        for (int i = 0; i < terms.length; i++) {
+            List<Match> matches = matches(terms[i], edits[i]);
+            if (driverMatches == null || subtreeRows(matches) < subtreeRows(driverMatches)) {
+                driver = i;
+                driverMatches = matches;
+            }
+        }
+
+        List<Integer> rows = new ArrayList<>();
+        // Whether a row matches the other words does not depend on the node it was reached from
+        Set<Integer> seen = new HashSet<>();
+        for (int from = 0, to; from < driverMatches.size(); from = to) {
+            // Matches at one distance are walked together one trie level at a time, so shorter words come first
+            // even when they sit below a different match node
+            int distance = driverMatches.get(from).distance;
+            TreeMap<Integer, List<Node>> levels = new TreeMap<>();
+            for (to = from; to < driverMatches.size() && driverMatches.get(to).distance == distance; to++) {
+                Match match = driverMatches.get(to);
+                levels.computeIfAbsent(match.depth, depth -> new ArrayList<>()).add(match.node);
+            }
+            while (!levels.isEmpty()) {
+                Map.Entry<Integer, List<Node>> level = levels.pollFirstEntry();
+                for (Node node : level.getValue()) {
+                    for (int row : node.rows) {
+                        if (seen.add(row) && matchesOtherTerms(row, terms, edits, driver)) {
+                            rows.add(row);
+                            if (rows.size() == limit) {
+                                return rows;
+                            }
+                        }
+                    }
+                    if (node.children.length > 0) {
+                        levels.computeIfAbsent(level.getKey() + 1, depth -> new ArrayList<>())
+                            .addAll(Arrays.asList(node.children));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private boolean matchesOtherTerms(int row, String[] terms, int[] edits, int driver) {
+        for (int i = 0; i < terms.length; i++) {
+            if (i == driver) {
+                continue;
+            }
+            boolean found = false;
+            for (String word : rowWords[row]) {
+                if (prefixDistance(terms[i], word, edits[i]) <= edits[i]) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Trie nodes whose every word starts within maxEdits of the term, closest first
+    private List<Match> matches(String term, int maxEdits) {
+        List<Match> matches = new ArrayList<>();
+        if (maxEdits == 0) {
+            Node node = root;
+            for (int i = 0; i < term.length() && node != null; i++) {
+                node = node.child(term.charAt(i));
+            }
+            if (node != null) {
+                matches.add(new Match(node, 0, term.length()));
+            }
+            return matches;
+        }
+        // One distance row per trie depth, reused across branches so the walk does not allocate per node
+        int[][] distances = new int[maxDepth + 1][term.length() + 1];
+        for (int j = 0; j <= term.length(); j++) {
+            distances[0][j] = j;
+        }
+        collect(root, 1, term, distances, maxEdits, matches);
+        matches.sort(Comparator.comparingInt(match -> match.distance));
+        return matches;
+    }
+
+    // Levenshtein walk: once the whole term is within reach at a node, its entire subtree matches.
+    // The walk goes on below a match while a closer one is still possible; duplicates are skipped by the caller.
+    private static void collect(Node node, int depth, String term, int[][] distances, int maxEdits, List<Match> matches) {
+        int[] previous = distances[depth - 1];
+        int[] current = distances[depth];
+        int last = term.length();
+        for (int c = 0; c < node.labels.length; c++) {
+            char label = node.labels[c];
+            current[0] = previous[0] + 1;
+            int best = current[0];
+            for (int j = 1; j <= last; j++) {
+                int substitute = previous[j - 1] + (term.charAt(j - 1) == label ? 0 : 1);
+                current[j] = Math.min(substitute, Math.min(previous[j] + 1, current[j - 1] + 1));
+                best = Math.min(best, current[j]);
+            }
+            Node child = node.children[c];
+            if (current[last] <= maxEdits) {
+                matches.add(new Match(child, current[last], depth));
+            }
+            if (best <= maxEdits && best < current[last]) {
+                collect(child, depth + 1, term, distances, maxEdits, matches);
+            }
+        }
+    }
+
+    // Smallest edit distance between the term and any prefix of the word, or max + 1 when over max
+    private static int prefixDistance(String term, String word, int max) {
+        if (max == 0) {
+            return word.startsWith(term) ? 0 : 1;
+        }
+        int[] previous = new int[term.length() + 1];
+        for (int j = 0; j < previous.length; j++) {
+            previous[j] = j;
+        }
+        int best = previous[term.length()];
+        for (int i = 1; i <= word.length() && best > 0; i++) {
+            int[] current = new int[previous.length];
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j < current.length; j++) {
+                int substitute = previous[j - 1] + (term.charAt(j - 1) == word.charAt(i - 1) ? 0 : 1);
+                current[j] = Math.min(substitute, Math.min(previous[j] + 1, current[j - 1] + 1));
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            best = Math.min(best, current[term.length()]);
+            if (rowMin > max) {
+                break;
+            }
+            previous = current;
+        }
+        return best <= max ? best : max + 1;
+    }
+
+    private static long subtreeRows(List<Match> matches) {
+        long rows = 0;
+        for (Match match : matches) {
+            rows += match.node.subtreeRows;
+        }
+        return rows;
+    }
+
+    private static final class Match {
+        final Node node;
+        final int distance;
+        // Length of the words ending at node
+        final int depth;
+
+        Match(Node node, int distance, int depth) {
+            this.node = node;
+            this.distance = distance;
+            this.depth = depth;
+        }
+    }
+
+    // Frozen trie node: children sorted by label so lookups binary-search a small char array
+    private static final class Node {
+        static final Node LEAF = new Node(new char[0], new Node[0], new int[0]);
+
+        final char[] labels;
+        final Node[] children;
+        final int[] rows;
+        // Row entries in this node and below, used to pick the most selective query word
+        final int subtreeRows;
+
+        Node(char[] labels, Node[] children, int[] rows) {
+            this.labels = labels;
+            this.children = children;
+            this.rows = rows;
+            int total = rows.length;
+            for (Node child : children) {
+                total += child.subtreeRows;
+            }
+            this.subtreeRows = total;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class Builder {
+        private final Map<Character, Builder> children = new HashMap<>();
+        private int[] rows = new int[0];
+        private int rowCount;
+        // Longest word added; only tracked on the root
+        int maxDepth;
+
+        void add(String word, int row) {
+            maxDepth = Math.max(maxDepth, word.length());
+            Builder node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), label -> new Builder());
+            }
+            // Rows arrive in order, so a repeat of the same word for one player is always the last entry
+            if (node.rowCount > 0 && node.rows[node.rowCount - 1] == row) {
+                return;
+            }
+            if (node.rowCount == node.rows.length) {
+                node.rows = Arrays.copyOf(node.rows, Math.max(2, node.rowCount * 2));
+            }
+            node.rows[node.rowCount++] = row;
+        }
+
+        Node freeze() {
+            char[] labels = new char[children.size()];
+            int i = 0;
+            for (char label : children.keySet()) {
+                labels[i++] = label;
+            }
+            Arrays.sort(labels);
+            Node[] frozen = new Node[labels.length];
+            for (int c = 0; c < labels.length; c++) {
+                frozen[c] = children.get(labels[c]).freeze();
+            }
+            return new Node(labels, frozen, Arrays.copyOf(rows, rowCount));
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package com.intuit.playerservice.repository.index;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerQuery;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Secondary indexes over one snapshot's rows, built when the snapshot is published.
+ * Equality filters (birth place, bats, throws) are row bitmaps keyed by the lower-cased value,
+ * living/deceased is a single bitmap, and birth year and debut date are sorted arrays of rows,
+ * so a range filter touches only the rows inside the range. Filters are combined by intersecting
+ * bitmaps, smallest first; rows with a blank value never match a filter on that field.
+ * A reload that only edits or appends rows patches the previous index instead of rebuilding it.
+ */
+public final class PlayerSearchIndex {
+    public static final PlayerSearchIndex EMPTY = new PlayerSearchIndex(List.of());
+
+    private static final Map<String, Comparator<Player>> SORTS = Map.of(
+        "playerID", Comparator.comparing(Player::getPlayerID, Comparator.nullsLast(Comparator.naturalOrder())),
+        "nameFirst", Comparator.comparing(Player::getNameFirst, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)),
+        "nameLast", Comparator.comparing(Player::getNameLast, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)),
+        "birthYear", Comparator.comparingInt(Player::getBirthYear),
+        "debut", Comparator.comparing(Player::getDebut, Comparator.nullsLast(Comparator.naturalOrder())),
+        "weight", Comparator.comparingDouble(Player::getWeight),
+        "height", Comparator.comparingDouble(Player::getHeight));
+
+    private final List<Player> players;
+    private final Map<String, BitSet> byBirthCountry;
+    private final Map<String, BitSet> byBirthState;
+    private final Map<String, BitSet> byBirthCity;
+    private final Map<String, BitSet> byBats;
+    private final Map<String, BitSet> byThrows;
+    private final BitSet deceased;
+    private final IntRangeIndex byBirthYear;
+    private final StringRangeIndex byDebut;
+    // Row -> position in each sort order; only the orders that are actually requested get built
+    private final Map<String, int[]> sortRanks = new ConcurrentHashMap<>();
+
+    // Reads each row once: a columnar store decodes a new Player on every get
+    public PlayerSearchIndex(List<Player> players) {
+        int size = players.size();
+        String[][] places = new String[5][size];
+        int[] birthYears = new int[size];
+        String[] debuts = new String[size];
+        this.players = players;
+        this.deceased = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            Player player = players.get(row);
+            places[0][row] = player.getBirthCountry();
+            places[1][row] = player.getBirthState();
+            places[2][row] = player.getBirthCity();
+            places[3][row] = player.getBats();
+            places[4][row] = player.getPlayerThrows();
+            birthYears[row] = player.getBirthYear();
+            debuts[row] = player.getDebut();
+            if (player.getDeathYear() != null) {
+                deceased.set(row);
+            }
+        }
+        this.byBirthCountry = bitmaps(places[0]);
+        this.byBirthState = bitmaps(places[1]);
+        this.byBirthCity = bitmaps(places[2]);
+        this.byBats = bitmaps(places[3]);
+        this.byThrows = bitmaps(places[4]);
+        // A birth year of 0 means the CSV cell was empty
+        this.byBirthYear = new IntRangeIndex(birthYears, year -> year != 0);
+        this.byDebut = new StringRangeIndex(debuts);
+    }
+
+    private PlayerSearchIndex(List<Player> players, Map<String, BitSet> byBirthCountry,
+            Map<String, BitSet> byBirthState, Map<String, BitSet> byBirthCity, Map<String, BitSet> byBats,
+            Map<String, BitSet> byThrows, BitSet deceased, IntRangeIndex byBirthYear, StringRangeIndex byDebut) {
+        this.players = players;
+        this.byBirthCountry = byBirthCountry;
+        this.byBirthState = byBirthState;
+        this.byBirthCity = byBirthCity;
+        this.byBats = byBats;
+        this.byThrows = byThrows;
+        this.deceased = deceased;
+        this.byBirthYear = byBirthYear;
+        this.byDebut = byDebut;
+    }
+
+    /**
+     * The index of players, which are this index's rows with the given rows replaced or appended
+     * and every other row at the same position. Only the bitmaps of values a changed row had or
+     * now has are copied; the range indexes are merged in one pass without sorting, and sort
+     * orders are rebuilt when first requested.
+     */
+    public PlayerSearchIndex withChanges(List<Player> players, int[] changedRows) {
+        Player[] before = new Player[changedRows.length];
+        Player[] after = new Player[changedRows.length];
+        for (int i = 0; i < changedRows.length; i++) {
+            int row = changedRows[i];
+            before[i] = row < this.players.size() ? this.players.get(row) : null;
+            after[i] = players.get(row);
+        }
+        BitSet deceasedRows = (BitSet) deceased.clone();
+        int[] birthYears = new int[changedRows.length];
+        String[] debuts = new String[changedRows.length];
+        for (int i = 0; i < changedRows.length; i++) {
+            deceasedRows.set(changedRows[i], after[i].getDeathYear() != null);
+            birthYears[i] = after[i].getBirthYear();
+            debuts[i] = after[i].getDebut();
+        }
+        return new PlayerSearchIndex(players,
+            patch(byBirthCountry, changedRows, before, after, Player::getBirthCountry),
+            patch(byBirthState, changedRows, before, after, Player::getBirthState),
+            patch(byBirthCity, changedRows, before, after, Player::getBirthCity),
+            patch(byBats, changedRows, before, after, Player::getBats),
+            patch(byThrows, changedRows, before, after, Player::getPlayerThrows),
+            deceasedRows,
+            byBirthYear.withRows(changedRows, birthYears, year -> year != 0),
+            byDebut.withRows(changedRows, debuts));
+    }
+
+    public static boolean isSortable(String field) {
+        return SORTS.containsKey(field);
+    }
+
+    /**
+     * Returns the matching rows in the requested order. Throws IllegalArgumentException for an
+     * unknown sort field or a debut bound that is not an ISO date.
+     */
+    public int[] search(PlayerQuery query) {
+        if (query.getSort() != null && !isSortable(query.getSort())) {
+            throw new IllegalArgumentException("Unknown sort field: " + query.getSort());
+        }
+        List<BitSet> filters = new ArrayList<>();
+        addEquality(filters, byBirthCountry, query.getBirthCountry());
+        addEquality(filters, byBirthState, query.getBirthState());
+        addEquality(filters, byBirthCity, query.getBirthCity());
+        addEquality(filters, byBats, query.getBats());
+        addEquality(filters, byThrows, query.getPlayerThrows());
+        if (query.getBirthYearFrom() != null || query.getBirthYearTo() != null) {
+            filters.add(byBirthYear.between(
+                query.getBirthYearFrom() == null ? Integer.MIN_VALUE : query.getBirthYearFrom(),
+                query.getBirthYearTo() == null ? Integer.MAX_VALUE : query.getBirthYearTo()));
+        }
+        if (query.getDebutFrom() != null || query.getDebutTo() != null) {
+            filters.add(byDebut.between(isoDate(query.getDebutFrom()), isoDate(query.getDebutTo())));
+        }
+        if (Boolean.FALSE.equals(query.getLiving())) {
+            filters.add(deceased);
+        }
+
+        BitSet matches;
+        if (filters.isEmpty()) {
+            matches = new BitSet(players.size());
+            matches.set(0, players.size());
+        } else {
+            filters.sort(Comparator.comparingInt(BitSet::cardinality));
+            matches = (BitSet) filters.get(0).clone();
+            for (int i = 1; i < filters.size() && !matches.isEmpty(); i++) {
+                matches.and(filters.get(i));
+            }
+        }
+        if (Boolean.TRUE.equals(query.getLiving())) {
+            matches.andNot(deceased);
+        }
+
+        int[] rows = matches.stream().toArray();
+        if (query.getSort() != null) {
+            sortByRank(rows, sortRanks.computeIfAbsent(query.getSort(), this::ranks));
+        }
+        if (query.isDescending()) {
+            reverse(rows);
+        }
+        return rows;
+    }
+
+    private int[] ranks(String field) {
+        Comparator<Player> comparator = SORTS.get(field);
+        Player[] rows = players.toArray(new Player[0]);
+        int[] order = IntStream.range(0, rows.length)
+            .boxed()
+            .sorted((a, b) -> comparator.compare(rows[a], rows[b]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        int[] rank = new int[order.length];
+        for (int position = 0; position < order.length; position++) {
+            rank[order[position]] = position;
+        }
+        return rank;
+    }
+
+    // Packs rank and row into one long so the matches sort as primitives
+    private static void sortByRank(int[] rows, int[] rank) {
+        long[] keyed = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keyed[i] = ((long) rank[rows[i]] << 32) | rows[i];
+        }
+        Arrays.sort(keyed);
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = (int) keyed[i];
+        }
+    }
+
+    private static void reverse(int[] rows) {
+        for (int i = 0, j = rows.length - 1; i < j; i++, j--) {
+            int swap = rows[i];
+            rows[i] = rows[j];
+            rows[j] = swap;
+        }
+    }
+
+    private static void addEquality(List<BitSet> filters, Map<String, BitSet> index, String value) {
+        if (value != null) {
+            filters.add(index.getOrDefault(normalize(value), new BitSet()));
+        }
+    }
+
+    private static String isoDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Expected a yyyy-MM-dd date: " + value, e);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Moves each changed row to the bitmap of its new value, copying only the bitmaps that change
+    private static Map<String, BitSet> patch(Map<String, BitSet> bitmaps, int[] rows, Player[] before, Player[] after,
+            Function<Player, String> field) {
+        Map<String, BitSet> index = new HashMap<>(bitmaps);
+        Set<String> copied = new HashSet<>();
+        for (int i = 0; i < rows.length; i++) {
+            String previous = before[i] == null ? null : field.apply(before[i]);
+            if (previous != null && !previous.isBlank()) {
+                bitmap(index, copied, normalize(previous)).clear(rows[i]);
+            }
+            String value = field.apply(after[i]);
+            if (value != null && !value.isBlank()) {
+                bitmap(index, copied, normalize(value)).set(rows[i]);
+            }
+        }
+        index.values().removeIf(BitSet::isEmpty);
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static BitSet bitmap(Map<String, BitSet> index, Set<String> copied, String key) {
+        if (copied.add(key)) {
+            BitSet shared = index.get(key);
+            index.put(key, shared == null ? new BitSet() : (BitSet) shared.clone());
+        }
+        return index.get(key);
+    }
+
+    private static Map<String, BitSet> bitmaps(String[] values) {
+        Map<String, BitSet> index = new HashMap<>();
+        for (int row = 0; row < values.length; row++) {
+            String value = values[row];
+            if (value != null && !value.isBlank()) {
+                index.computeIfAbsent(normalize(value), key -> new BitSet()).set(row);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static BitSet rowSet(int[] rows) {
+        BitSet set = new BitSet();
+        for (int row : rows) {
+            set.set(row);
+        }
+        return set;
+    }
+
+    // Rows sorted by an int key; a range is a binary search for each end plus one bit per row inside it
+    private static final class IntRangeIndex {
+        private final int[] keys;
+        private final int[] rows;
+
+        private IntRangeIndex(int[] keys, int[] rows) {
+            this.keys = keys;
+            this.rows = rows;
+        }
+
+        // Drops the entries of the given rows and merges in their new keys, keeping (key, row) order
+        IntRangeIndex withRows(int[] changedRows, int[] values, IntPredicate present) {
+            long[] inserted = new long[changedRows.length];
+            int count = 0;
+            for (int i = 0; i < changedRows.length; i++) {
+                if (present.test(values[i])) {
+                    inserted[count++] = ((long) (values[i] ^ Integer.MIN_VALUE) << 32) | changedRows[i];
+                }
+            }
+            Arrays.sort(inserted, 0, count);
+            BitSet changed = rowSet(changedRows);
+            int[] mergedKeys = new int[keys.length + count];
+            int[] mergedRows = new int[keys.length + count];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i <= keys.length; i++) {
+                long existing = i < keys.length ? ((long) (keys[i] ^ Integer.MIN_VALUE) << 32) | rows[i] : 0;
+                while (next < count && (i == keys.length || inserted[next] < existing)) {
+                    mergedKeys[size] = (int) (inserted[next] >>> 32) ^ Integer.MIN_VALUE;
+                    mergedRows[size++] = (int) inserted[next++];
+                }
+                if (i < keys.length && !changed.get(rows[i])) {
+                    mergedKeys[size] = keys[i];
+                    mergedRows[size++] = rows[i];
+                }
+            }
+            return new IntRangeIndex(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedRows, size));
+        }
+
+        IntRangeIndex(int[] values, IntPredicate present) {
+            long[] keyed = new long[values.length];
+            int count = 0;
+            for (int row = 0; row < values.length; row++) {
+                int key = values[row];
+                if (present.test(key)) {
+                    // Flip the sign bit so signed keys order correctly as the high word
+                    keyed[count++] = ((long) (key ^ Integer.MIN_VALUE) << 32) | row;
+                }
+            }
+            Arrays.sort(keyed, 0, count);
+            this.keys = new int[count];
+            this.rows = new int[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = (int) (keyed[i] >>> 32) ^ Integer.MIN_VALUE;
+                rows[i] = (int) keyed[i];
+            }
+        }
+
+        BitSet between(int from, int to) {
+            BitSet matches = new BitSet();
+            for (int i = lowerBound(from); i < keys.length && keys[i] <= to; i++) {
+                matches.set(rows[i]);
+            }
+            return matches;
+        }
+
+        private int lowerBound(int key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    // Rows sorted by a string key; ISO dates order correctly as strings
+    private static final class StringRangeIndex {
+        private final String[] keys;
+        private final int[] rows;
+
+        private StringRangeIndex(String[] keys, int[] rows) {
+            this.keys = keys;
+            this.rows = rows;
+        }
+
+        // Drops the entries of the given rows and merges in their new keys, keeping (key, row) order
+        StringRangeIndex withRows(int[] changedRows, String[] values) {
+            Integer[] order = IntStream.range(0, changedRows.length)
+                .filter(i -> values[i] != null && !values[i].isEmpty())
+                .boxed()
+                .sorted(Comparator.<Integer, String>comparing(i -> values[i]).thenComparingInt(i -> changedRows[i]))
+                .toArray(Integer[]::new);
+            BitSet changed = rowSet(changedRows);
+            String[] mergedKeys = new String[keys.length + order.length];
+            int[] mergedRows = new int[keys.length + order.length];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i <= keys.length; i++) {
+                while (next < order.length
+                        && (i == keys.length || before(values[order[next]], changedRows[order[next]], i))) {
+                    mergedKeys[size] = values[order[next]];
+                    mergedRows[size++] = changedRows[order[next++]];
+                }
+                if (i < keys.length && !changed.get(rows[i])) {
+                    mergedKeys[size] = keys[i];
+                    mergedRows[size++] = rows[i];
+                }
+            }
+            return new StringRangeIndex(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedRows, size));
+        }
+
+        private boolean before(String key, int row, int entry) {
+            int order = key.compareTo(keys[entry]);
+            return order < 0 || (order == 0 && row < rows[entry]);
+        }
+
+        StringRangeIndex(String[] values) {
+            Integer[] order = IntStream.range(0, values.length)
+                .filter(row -> values[row] != null && !values[row].isEmpty())
+                .boxed()
+                .toArray(Integer[]::new);
+            Arrays.sort(order, Comparator.comparing(row -> values[row]));
+            this.keys = new String[order.length];
+            this.rows = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                rows[i] = order[i];
+                keys[i] = values[order[i]];
+            }
+        }
+
+        // Null bounds are open
+        BitSet between(String from, String to) {
+            BitSet matches = new BitSet();
+            for (int i = lowerBound(from); i < keys.length && (to == null || keys[i].compareTo(to) <= 0); i++) {
+                matches.set(rows[i]);
+            }
+            return matches;
+        }
+
+        private int lowerBound(String key) {
+            if (key == null) {
+                return 0;
+            }
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
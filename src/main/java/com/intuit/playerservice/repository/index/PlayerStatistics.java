@@ -0,0 +1,177 @@
+package com.intuit.playerservice.repository.index;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerDistribution;
+import com.intuit.playerservice.model.PlayerStats;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Dashboard aggregates over one snapshot's rows, computed in a single fork-join pass: the rows are
+ * split into ranges, each range is tallied into its own {@link Tally}, and tallies are merged
+ * pairwise as the tasks join. Every row is read exactly once, which matters for a columnar store
+ * that decodes a new Player on every get. Blank values and zero heights, weights and birth years
+ * are left out of the field they belong to.
+ */
+public final class PlayerStatistics {
+    public static final int HEIGHT_BUCKET_INCHES = 1;
+    public static final int WEIGHT_BUCKET_POUNDS = 10;
+    // Below this many rows a range is tallied on the current thread
+    private static final int SPLIT_THRESHOLD = 4096;
+    // Kept apart from the common pool, so a reload's tally neither waits behind nor starves parallel streams
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("player-statistics-" + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+
+    private PlayerStatistics() {
+    }
+
+    public static PlayerStats compute(List<Player> players, long version) {
+        Tally tally = POOL.invoke(new RangeTask(players, 0, players.size()));
+        return new PlayerStats(players.size(),
+            Collections.unmodifiableMap(new TreeMap<>(tally.birthCountries)),
+            Collections.unmodifiableMap(new TreeMap<>(tally.birthDecades)),
+            Collections.unmodifiableMap(new TreeMap<>(tally.batsThrows)),
+            tally.height.toDistribution(),
+            tally.weight.toDistribution(),
+            Collections.unmodifiableMap(new TreeMap<>(tally.debutYears)),
+            version);
+    }
+
+    private static final class RangeTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Player> players;
+        private final int from;
+        private final int to;
+
+        RangeTask(List<Player> players, int from, int to) {
+            this.players = players;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Tally tally = new Tally();
+                for (int row = from; row < to; row++) {
+                    tally.add(players.get(row));
+                }
+                return tally;
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(players, from, middle);
+            left.fork();
+            Tally right = new RangeTask(players, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    // Counts for one range of rows; only touched by the task that owns it until it is merged
+    private static final class Tally {
+        final Map<String, Integer> birthCountries = new HashMap<>();
+        final Map<Integer, Integer> birthDecades = new HashMap<>();
+        final Map<String, Integer> batsThrows = new HashMap<>();
+        final Map<Integer, Integer> debutYears = new HashMap<>();
+        final Measure height = new Measure(HEIGHT_BUCKET_INCHES);
+        final Measure weight = new Measure(WEIGHT_BUCKET_POUNDS);
+
+        void add(Player player) {
+            if (!isBlank(player.getBirthCountry())) {
+                birthCountries.merge(player.getBirthCountry(), 1, Integer::sum);
+            }
+            if (player.getBirthYear() > 0) {
+                birthDecades.merge(player.getBirthYear() / 10 * 10, 1, Integer::sum);
+            }
+            if (!isBlank(player.getBats()) && !isBlank(player.getPlayerThrows())) {
+                batsThrows.merge(player.getBats() + "/" + player.getPlayerThrows(), 1, Integer::sum);
+            }
+            int debutYear = debutYear(player.getDebut());
+            if (debutYear > 0) {
+                debutYears.merge(debutYear, 1, Integer::sum);
+            }
+            height.add(player.getHeight());
+            weight.add(player.getWeight());
+        }
+
+        Tally merge(Tally other) {
+            other.birthCountries.forEach((key, count) -> birthCountries.merge(key, count, Integer::sum));
+            other.birthDecades.forEach((key, count) -> birthDecades.merge(key, count, Integer::sum));
+            other.batsThrows.forEach((key, count) -> batsThrows.merge(key, count, Integer::sum));
+            other.debutYears.forEach((key, count) -> debutYears.merge(key, count, Integer::sum));
+            height.merge(other.height);
+            weight.merge(other.weight);
+            return this;
+        }
+    }
+
+    private static final class Measure {
+        final int bucketWidth;
+        final Map<Integer, Integer> histogram = new HashMap<>();
+        int count;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum;
+
+        Measure(int bucketWidth) {
+            this.bucketWidth = bucketWidth;
+        }
+
+        void add(double value) {
+            if (!(value > 0)) {
+                return;
+            }
+            count++;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+            histogram.merge((int) Math.floor(value / bucketWidth) * bucketWidth, 1, Integer::sum);
+        }
+
+        void merge(Measure other) {
+            count += other.count;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            sum += other.sum;
+            other.histogram.forEach((bucket, bucketCount) -> histogram.merge(bucket, bucketCount, Integer::sum));
+        }
+
+        PlayerDistribution toDistribution() {
+            if (count == 0) {
+                return new PlayerDistribution(0, 0, 0, 0, bucketWidth, Map.of());
+            }
+            return new PlayerDistribution(count, min, max, sum / count, bucketWidth,
+                Collections.unmodifiableMap(new TreeMap<>(histogram)));
+        }
+    }
+
+    // Year of a yyyy-MM-dd debut date, or 0 when the date is blank or malformed
+    private static int debutYear(String debut) {
+        if (debut == null || debut.length() < 4) {
+            return 0;
+        }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = debut.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            year = year * 10 + (c - '0');
+        }
+        return year;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,13 @@
+package com.intuit.playerservice.repository.interfaces;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import com.intuit.playerservice.model.Player;
+
+public interface IBinarySnapshotStore {
+    boolean isEnabled();
+    Optional<List<Player>> read(Path csvPath) throws IOException;
+    void write(Path csvPath, List<Player> players) throws IOException;
+}
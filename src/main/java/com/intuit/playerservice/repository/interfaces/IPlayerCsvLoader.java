@@ -0,0 +1,19 @@
+package com.intuit.playerservice.repository.interfaces;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.model.PlayerSnapshot;
+
+public interface IPlayerCsvLoader {
+    String getName();
+    List<Player> load(Path path) throws IOException;
+
+    // Loads the file and diffs it against the previous snapshot; loaders that hash rows can skip parsing unchanged ones
+    default PlayerDelta loadChanges(Path path, PlayerSnapshot previous) throws IOException {
+        return PlayerDelta.compare(previous, load(path), Map.of());
+    }
+}
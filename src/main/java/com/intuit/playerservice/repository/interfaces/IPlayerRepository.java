@@ -5,10 +5,16 @@ import java.util.List;
 import java.util.Optional;
 
 import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
 
 public interface IPlayerRepository {
+    PlayerSnapshot getSnapshot();
     List<Player> getAll();
     List<Player> getPlayersPage(int page, int size);
     void loadPlayers(Path path) throws IOException;
+    void recordLoadFailure(String message);
     Optional<Player> getById(String id);
-}
\ No newline at end of file
+    List<Optional<Player>> getByIds(List<String> ids);
+    Optional<Player> getByRetroId(String retroId);
+    Optional<Player> getByBbrefId(String bbrefId);
+}
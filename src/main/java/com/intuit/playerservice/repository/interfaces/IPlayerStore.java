@@ -0,0 +1,35 @@
+package com.intuit.playerservice.repository.interfaces;
+import java.util.List;
+import java.util.Optional;
+
+import com.intuit.playerservice.model.Player;
+
+public interface IPlayerStore {
+    int size();
+    List<Player> asList();
+    Optional<Player> getById(String id);
+    Optional<Player> getByRetroId(String retroId);
+    Optional<Player> getByBbrefId(String bbrefId);
+
+    // False for stores that read rows from their file on demand: they cannot be read once a later load has
+    // rewritten the file or evicted their rows from the shared cache
+    default boolean ownsRows() {
+        return true;
+    }
+
+    // Stores that keep IDs apart from the rows override this to avoid building a Player
+    default String getPlayerId(int row) {
+        return asList().get(row).getPlayerID();
+    }
+
+    // Changes when any row or the row order changes, and is stable across restarts; Player's hashCode only
+    // depends on its field values. Stores that can hash their source more cheaply than every row override this.
+    default long getContentHash() {
+        long hash = size();
+        for (Player player : asList()) {
+            hash = (hash ^ (player == null ? 0 : player.hashCode())) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 32;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,36 @@
+package com.intuit.playerservice.repository.loader;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+// Reference loader using Jackson databinding on a single thread; kept to compare against the parallel loader
+@Component
+@ConditionalOnProperty(name = "player.loader", havingValue = "jackson")
+public class JacksonPlayerCsvLoader implements IPlayerCsvLoader {
+    // ObjectReader is immutable and thread-safe, so the mapper and schema are built once
+    private final ObjectReader reader = new CsvMapper()
+        .readerFor(Player.class)
+        .with(CsvSchema.emptySchema().withHeader());
+
+    @Override
+    public String getName() {
+        return "jackson";
+    }
+
+    @Override
+    public List<Player> load(Path path) throws IOException {
+        try (MappingIterator<Player> it = reader.readValues(path.toFile())) {
+            return it.readAll();
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.intuit.playerservice.repository.loader;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Memory-maps the CSV, splits the data rows into chunks at line boundaries and parses the
+ * chunks in parallel straight into {@link Player} objects, preserving file order.
+ * Splitting at newlines assumes quoted fields do not contain line breaks, which holds for roster files.
+ * For incremental reloads each row is hashed before parsing, and rows whose hash matches the
+ * previous load reuse the previous {@link Player} instead of being parsed again.
+ */
+@Component
+@ConditionalOnProperty(name = "player.loader", havingValue = "parallel", matchIfMissing = true)
+public class ParallelPlayerCsvLoader implements IPlayerCsvLoader {
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int minChunkSize;
+    // Column layout of the last header seen; reloads of the same file reuse it
+    private volatile CsvLayout cachedLayout;
+
+    public ParallelPlayerCsvLoader() {
+        this(DEFAULT_MIN_CHUNK_SIZE);
+    }
+
+    public ParallelPlayerCsvLoader(int minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    @Override
+    public String getName() {
+        return "parallel";
+    }
+
+    @Override
+    public List<Player> load(Path path) throws IOException {
+        return read(path, null).players;
+    }
+
+    @Override
+    public PlayerDelta loadChanges(Path path, PlayerSnapshot previous) throws IOException {
+        ChunkResult result = read(path, previous);
+        Map<String, Long> rowHashes = new HashMap<>((int) (result.players.size() / 0.75f) + 1);
+        // First row wins on duplicate IDs, matching the row the snapshot's ID index returns
+        for (int i = 0; i < result.players.size(); i++) {
+            rowHashes.putIfAbsent(result.players.get(i).getPlayerID(), result.hashes[i]);
+        }
+        return PlayerDelta.compare(previous, result.players, rowHashes);
+    }
+
+    // previous is null for a plain load; otherwise rows are hashed and unchanged ones reused
+    private ChunkResult read(Path path, PlayerSnapshot previous) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = findLineEnd(channel, 0, size);
+            if (headerEnd == 0) {
+                return new ChunkResult(new ArrayList<>(), new long[0]);
+            }
+            CsvLayout layout = layout(channel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd));
+            if (layout.unknownColumn != null) {
+                throw new IOException("Unrecognized CSV column \"" + layout.unknownColumn + "\" in " + path);
+            }
+            long[] bounds = split(channel, headerEnd, size);
+
+            List<ChunkResult> chunks;
+            try {
+                chunks = IntStream.range(0, bounds.length - 1)
+                    .parallel()
+                    .mapToObj(i -> parseChunk(channel, layout, previous, bounds[i], bounds[i + 1]))
+                    .collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            int total = chunks.stream().mapToInt(chunk -> chunk.players.size()).sum();
+            List<Player> players = new ArrayList<>(total);
+            long[] hashes = new long[previous == null ? 0 : total];
+            for (ChunkResult chunk : chunks) {
+                if (previous != null) {
+                    System.arraycopy(chunk.hashes, 0, hashes, players.size(), chunk.hashes.length);
+                }
+                players.addAll(chunk.players);
+            }
+            return new ChunkResult(players, hashes);
+        }
+    }
+
+    private CsvLayout layout(MappedByteBuffer headerBuffer) {
+        byte[] headerBytes = new byte[headerBuffer.limit()];
+        headerBuffer.get(headerBytes);
+        CsvLayout layout = this.cachedLayout;
+        if (layout == null || !Arrays.equals(layout.headerBytes, headerBytes)) {
+            layout = new CsvLayout(headerBytes);
+            this.cachedLayout = layout;
+        }
+        return layout;
+    }
+
+    // Chunk boundaries always sit just after a newline, so every chunk holds whole rows
+    private long[] split(FileChannel channel, long dataStart, long size) throws IOException {
+        long remaining = size - dataStart;
+        int targets = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * 4);
+        long chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(minChunkSize, remaining / targets));
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(dataStart);
+        long start = dataStart;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : findLineEnd(channel, start + chunkSize, size);
+            bounds.add(end);
+            start = end;
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Position just after the first '\n' at or after from, or size if the last line has no newline
+    static long findLineEnd(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static ChunkResult parseChunk(FileChannel channel, CsvLayout layout, PlayerSnapshot previous,
+            long start, long end) {
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            ChunkParser parser = new ChunkParser(buffer, layout.columns);
+            return previous == null ? new ChunkResult(parser.parse(), null) : parser.parseChanges(layout, previous);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NumberFormatException e) {
+            throw new UncheckedIOException(new IOException(
+                "Malformed number in CSV rows at bytes " + start + "-" + end + ": " + e.getMessage(), e));
+        }
+    }
+
+    private static final class ChunkResult {
+        final List<Player> players;
+        // Row hashes aligned with players; only filled for incremental loads
+        final long[] hashes;
+
+        ChunkResult(List<Player> players, long[] hashes) {
+            this.players = players;
+            this.hashes = hashes;
+        }
+    }
+
+    // Header columns resolved to Player setters; like Jackson, a column Player does not know is an error
+    static final class CsvLayout {
+        final byte[] headerBytes;
+        final PlayerCsvColumn[] columns;
+        final String unknownColumn;
+        // Seeds row hashes so that a header change invalidates every previous row hash
+        final long headerHash;
+        final int idColumn;
+
+        CsvLayout(byte[] headerBytes) {
+            this.headerBytes = headerBytes;
+            List<String> names = new ArrayList<>();
+            ChunkParser parser = new ChunkParser(ByteBuffer.wrap(headerBytes), null);
+            parser.skipByteOrderMark();
+            parser.readRow((column, bytes, length) -> names.add(new String(bytes, 0, length, StandardCharsets.UTF_8)));
+            this.columns = names.stream().map(PlayerCsvColumn::forHeader).toArray(PlayerCsvColumn[]::new);
+            this.unknownColumn = names.stream().filter(name -> PlayerCsvColumn.forHeader(name) == null).findFirst().orElse(null);
+            this.headerHash = hash(FNV_OFFSET_BASIS, ByteBuffer.wrap(headerBytes), 0, headerBytes.length);
+            this.idColumn = Arrays.asList(columns).indexOf(PlayerCsvColumn.PLAYER_ID);
+        }
+    }
+
+    interface FieldConsumer {
+        void accept(int column, byte[] bytes, int length);
+    }
+
+    // Tokenizes one chunk; field bytes are copied into a reusable scratch array before conversion
+    static final class ChunkParser {
+        private final ByteBuffer buffer;
+        private final PlayerCsvColumn[] columns;
+        private final int limit;
+        private byte[] scratch = new byte[256];
+        private int position;
+
+        ChunkParser(ByteBuffer buffer, PlayerCsvColumn[] columns) {
+            this.buffer = buffer;
+            this.columns = columns;
+            this.limit = buffer.limit();
+        }
+
+        List<Player> parse() {
+            List<Player> players = new ArrayList<>();
+            while (position < limit) {
+                if (skipBlankLine()) {
+                    continue;
+                }
+                players.add(parseRow());
+            }
+            return players;
+        }
+
+        ChunkResult parseChanges(CsvLayout layout, PlayerSnapshot previous) {
+            Map<String, Long> previousHashes = previous.getRowHashes();
+            List<Player> players = new ArrayList<>();
+            long[] hashes = new long[64];
+            String[] id = new String[1];
+            while (position < limit) {
+                if (skipBlankLine()) {
+                    continue;
+                }
+                // First pass reads only the ID; the row is parsed only if its bytes changed since the last load
+                int rowStart = position;
+                id[0] = null;
+                readRow((column, bytes, length) -> {
+                    if (column == layout.idColumn) {
+                        id[0] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                    }
+                });
+                long rowHash = hash(layout.headerHash, buffer, rowStart, rowEnd(rowStart));
+                Long previousHash = previousHashes.get(id[0]);
+                Player player = previousHash != null && previousHash == rowHash
+                    ? previous.getById(id[0]).orElse(null)
+                    : null;
+                if (player == null) {
+                    int next = position;
+                    position = rowStart;
+                    player = parseRow();
+                    position = next;
+                }
+                if (players.size() == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, hashes.length * 2);
+                }
+                hashes[players.size()] = rowHash;
+                players.add(player);
+            }
+            return new ChunkResult(players, Arrays.copyOf(hashes, players.size()));
+        }
+
+        Player parseRow() {
+            Player player = new Player();
+            readRow((column, bytes, length) -> {
+                if (column < columns.length && columns[column] != null) {
+                    columns[column].set(player, bytes, length);
+                }
+            });
+            return player;
+        }
+
+        // Skips blank lines; false once the chunk has no rows left
+        boolean hasRow() {
+            while (position < limit) {
+                if (!skipBlankLine()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int position() {
+            return position;
+        }
+
+        // End of the row just read, excluding its line terminator
+        private int rowEnd(int rowStart) {
+            int end = position;
+            while (end > rowStart && (buffer.get(end - 1) == '\n' || buffer.get(end - 1) == '\r')) {
+                end--;
+            }
+            return end;
+        }
+
+        void skipByteOrderMark() {
+            if (limit >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB
+                    && (buffer.get(2) & 0xFF) == 0xBF) {
+                position = 3;
+            }
+        }
+
+        void readRow(FieldConsumer consumer) {
+            int column = 0;
+            while (true) {
+                int length = position < limit && buffer.get(position) == '"' ? readQuoted() : readPlain();
+                consumer.accept(column++, scratch, length);
+                if (position < limit && buffer.get(position) == ',') {
+                    position++;
+                    continue;
+                }
+                // End of row: step over an optional '\r' and the '\n'
+                if (position < limit && buffer.get(position) == '\r') {
+                    position++;
+                }
+                if (position < limit && buffer.get(position) == '\n') {
+                    position++;
+                }
+                return;
+            }
+        }
+
+        private int readPlain() {
+            int start = position;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == ',' || b == '\n') {
+                    break;
+                }
+                position++;
+            }
+            int end = position;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            int length = end - start;
+            ensureCapacity(length);
+            buffer.get(start, scratch, 0, length);
+            return length;
+        }
+
+        private int readQuoted() {
+            position++;
+            int length = 0;
+            while (position < limit) {
+                byte b = buffer.get(position++);
+                if (b == '"') {
+                    if (position < limit && buffer.get(position) == '"') {
+                        position++;
+                    } else {
+                        break;
+                    }
+                }
+                ensureCapacity(length + 1);
+                scratch[length++] = b;
+            }
+            return length;
+        }
+
+        private boolean skipBlankLine() {
+            byte b = buffer.get(position);
+            if (b == '\n') {
+                position++;
+                return true;
+            }
+            if (b == '\r' && position + 1 < limit && buffer.get(position + 1) == '\n') {
+                position += 2;
+                return true;
+            }
+            return false;
+        }
+
+        private void ensureCapacity(int length) {
+            if (length > scratch.length) {
+                scratch = Arrays.copyOf(scratch, Math.max(length, scratch.length * 2));
+            }
+        }
+    }
+
+    // 64-bit FNV-1a over a byte range
+    private static long hash(long seed, ByteBuffer buffer, int from, int to) {
+        long hash = seed;
+        for (int i = from; i < to; i++) {
+            hash ^= buffer.get(i) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,104 @@
+package com.intuit.playerservice.repository.loader;
+
+import com.intuit.playerservice.model.Player;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps a CSV header name to the {@link Player} property it fills and converts the raw
+ * field bytes without going through reflective databinding. Empty numeric fields become
+ * 0 for primitives and null for the nullable death fields, as Jackson does.
+ */
+public enum PlayerCsvColumn {
+    PLAYER_ID("playerID") { void set(Player p, byte[] b, int len) { p.setPlayerID(text(b, len)); } },
+    BIRTH_YEAR("birthYear") { void set(Player p, byte[] b, int len) { p.setBirthYear(intValue(b, len)); } },
+    BIRTH_MONTH("birthMonth") { void set(Player p, byte[] b, int len) { p.setBirthMonth(intValue(b, len)); } },
+    BIRTH_DAY("birthDay") { void set(Player p, byte[] b, int len) { p.setBirthDay(intValue(b, len)); } },
+    BIRTH_COUNTRY("birthCountry") { void set(Player p, byte[] b, int len) { p.setBirthCountry(text(b, len)); } },
+    BIRTH_STATE("birthState") { void set(Player p, byte[] b, int len) { p.setBirthState(text(b, len)); } },
+    BIRTH_CITY("birthCity") { void set(Player p, byte[] b, int len) { p.setBirthCity(text(b, len)); } },
+    DEATH_YEAR("deathYear") { void set(Player p, byte[] b, int len) { p.setDeathYear(nullableInt(b, len)); } },
+    DEATH_MONTH("deathMonth") { void set(Player p, byte[] b, int len) { p.setDeathMonth(nullableInt(b, len)); } },
+    DEATH_DAY("deathDay") { void set(Player p, byte[] b, int len) { p.setDeathDay(nullableInt(b, len)); } },
+    DEATH_COUNTRY("deathCountry") { void set(Player p, byte[] b, int len) { p.setDeathCountry(text(b, len)); } },
+    DEATH_STATE("deathState") { void set(Player p, byte[] b, int len) { p.setDeathState(text(b, len)); } },
+    DEATH_CITY("deathCity") { void set(Player p, byte[] b, int len) { p.setDeathCity(text(b, len)); } },
+    NAME_FIRST("nameFirst") { void set(Player p, byte[] b, int len) { p.setNameFirst(text(b, len)); } },
+    NAME_LAST("nameLast") { void set(Player p, byte[] b, int len) { p.setNameLast(text(b, len)); } },
+    NAME_GIVEN("nameGiven") { void set(Player p, byte[] b, int len) { p.setNameGiven(text(b, len)); } },
+    WEIGHT("weight") { void set(Player p, byte[] b, int len) { p.setWeight(doubleValue(b, len)); } },
+    HEIGHT("height") { void set(Player p, byte[] b, int len) { p.setHeight(doubleValue(b, len)); } },
+    BATS("bats") { void set(Player p, byte[] b, int len) { p.setBats(text(b, len)); } },
+    THROWS("throws") { void set(Player p, byte[] b, int len) { p.setPlayerThrows(text(b, len)); } },
+    DEBUT("debut") { void set(Player p, byte[] b, int len) { p.setDebut(text(b, len)); } },
+    FINAL_GAME("finalGame") { void set(Player p, byte[] b, int len) { p.setFinalGame(text(b, len)); } },
+    RETRO_ID("retroID") { void set(Player p, byte[] b, int len) { p.setRetroID(text(b, len)); } },
+    BBREF_ID("bbrefID") { void set(Player p, byte[] b, int len) { p.setBbrefID(text(b, len)); } };
+
+    private static final Map<String, PlayerCsvColumn> BY_HEADER = new HashMap<>();
+
+    static {
+        for (PlayerCsvColumn column : values()) {
+            BY_HEADER.put(column.header, column);
+        }
+    }
+
+    private final String header;
+
+    PlayerCsvColumn(String header) {
+        this.header = header;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    // Returns null for columns Player does not know about
+    public static PlayerCsvColumn forHeader(String header) {
+        return BY_HEADER.get(header);
+    }
+
+    abstract void set(Player player, byte[] bytes, int length);
+
+    private static String text(byte[] bytes, int length) {
+        return length == 0 ? "" : new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int intValue(byte[] bytes, int length) {
+        return length == 0 ? 0 : parseInt(bytes, length);
+    }
+
+    private static Integer nullableInt(byte[] bytes, int length) {
+        return length == 0 ? null : parseInt(bytes, length);
+    }
+
+    private static double doubleValue(byte[] bytes, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return Double.parseDouble(text(bytes, length));
+            }
+        }
+        return parseInt(bytes, length);
+    }
+
+    // Digit-only fast path; anything else falls back to Integer.parseInt for its validation and error message
+    private static int parseInt(byte[] bytes, int length) {
+        if (length > 9) {
+            return Integer.parseInt(text(bytes, length));
+        }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(text(bytes, length));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,213 @@
+package com.intuit.playerservice.repository.loader;
+
+import com.intuit.playerservice.model.Player;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * An open roster CSV that is read row by row instead of loaded: {@link #scan} reports where each
+ * data row starts and ends along with its IDs, and {@link #read} parses a single row from those
+ * bounds. Rows are tokenized exactly as {@link ParallelPlayerCsvLoader} does. A mapped file is
+ * mapped once, in segments split at line ends, and rows are decoded straight from the mapping;
+ * otherwise each read is a positional read into a fresh buffer.
+ * The file stays open until {@link #close} is called or the object becomes unreachable.
+ */
+public final class PlayerCsvFile implements Closeable {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long SCAN_WINDOW_SIZE = 64 * 1024 * 1024;
+    // A single mapping cannot exceed 2 GB
+    private static final long MAX_SEGMENT_SIZE = 1024 * 1024 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Cleaner.Cleanable cleanable;
+    // Null for an empty file
+    private final ParallelPlayerCsvLoader.CsvLayout layout;
+    private final long dataStart;
+    // Mapped mode only: segment i covers the bytes from segmentStarts[i] up to segmentStarts[i + 1]
+    private final long[] segmentStarts;
+    private final MappedByteBuffer[] segments;
+
+    private PlayerCsvFile(Path path, FileChannel channel, ParallelPlayerCsvLoader.CsvLayout layout, long dataStart,
+            boolean mapped) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.layout = layout;
+        this.dataStart = dataStart;
+        if (mapped) {
+            this.segmentStarts = windows(MAX_SEGMENT_SIZE);
+            this.segments = new MappedByteBuffer[segmentStarts.length - 1];
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentStarts[i],
+                    segmentStarts[i + 1] - segmentStarts[i]);
+            }
+        } else {
+            this.segmentStarts = null;
+            this.segments = null;
+        }
+        this.cleanable = CLEANER.register(this, new ChannelCloser(channel));
+    }
+
+    public static PlayerCsvFile open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    public static PlayerCsvFile open(Path path, boolean mapped) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long headerEnd = ParallelPlayerCsvLoader.findLineEnd(channel, 0, channel.size());
+            if (headerEnd == 0) {
+                return new PlayerCsvFile(path, channel, null, 0, false);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd);
+            byte[] headerBytes = new byte[header.limit()];
+            header.get(headerBytes);
+            ParallelPlayerCsvLoader.CsvLayout layout = new ParallelPlayerCsvLoader.CsvLayout(headerBytes);
+            if (layout.unknownColumn != null) {
+                throw new IOException("Unrecognized CSV column \"" + layout.unknownColumn + "\" in " + path);
+            }
+            return new PlayerCsvFile(path, channel, layout, headerEnd, mapped);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public interface RowVisitor {
+        // Called for the playerID, retroID and bbrefID fields of a row before its row call; bytes are reused afterwards
+        void id(PlayerCsvColumn column, byte[] bytes, int length);
+
+        // end is the start of the next row, so the range includes the line terminator
+        void row(long start, long end);
+    }
+
+    // Visits every data row in file order; blank lines are skipped as the loaders skip them.
+    // Returns the CRC32C of the bytes after the header, computed while they are being read anyway.
+    public long scan(RowVisitor visitor) throws IOException {
+        CRC32C checksum = new CRC32C();
+        if (layout == null) {
+            return checksum.getValue();
+        }
+        PlayerCsvColumn[] idColumns = new PlayerCsvColumn[layout.columns.length];
+        for (int column = 0; column < idColumns.length; column++) {
+            PlayerCsvColumn known = layout.columns[column];
+            if (known == PlayerCsvColumn.PLAYER_ID || known == PlayerCsvColumn.RETRO_ID || known == PlayerCsvColumn.BBREF_ID) {
+                idColumns[column] = known;
+            }
+        }
+        long[] windows = segments != null ? segmentStarts : windows(SCAN_WINDOW_SIZE);
+        for (int i = 0; i < windows.length - 1; i++) {
+            long windowStart = windows[i];
+            ByteBuffer window = segments != null
+                ? segments[i].duplicate()
+                : channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windows[i + 1] - windowStart);
+            checksum.update(window.duplicate());
+            ParallelPlayerCsvLoader.ChunkParser parser = new ParallelPlayerCsvLoader.ChunkParser(window, null);
+            while (parser.hasRow()) {
+                int rowStart = parser.position();
+                parser.readRow((column, bytes, length) -> {
+                    if (column < idColumns.length && idColumns[column] != null) {
+                        visitor.id(idColumns[column], bytes, length);
+                    }
+                });
+                visitor.row(windowStart + rowStart, windowStart + parser.position());
+            }
+        }
+        return checksum.getValue();
+    }
+
+    // Bounds of consecutive windows over the data rows, each at most maxSize bytes unless a single row is longer
+    private long[] windows(long maxSize) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(dataStart);
+        long start = dataStart;
+        while (start < size) {
+            long end = start + maxSize >= size ? size : ParallelPlayerCsvLoader.findLineEnd(channel, start + maxSize, size);
+            bounds.add(end);
+            start = end;
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Parses the row between offsets reported by scan; safe to call from many threads at once
+    public Player read(long start, long end) throws IOException {
+        if (segments != null) {
+            return readMapped(start, end);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new EOFException("Row at byte " + start + " is past the end of " + path
+                    + "; the file changed after it was indexed");
+            }
+        }
+        buffer.flip();
+        return parse(buffer, start);
+    }
+
+    // The row is not copied out first; the parser reads its fields straight from the mapping
+    private Player readMapped(long start, long end) throws IOException {
+        int segment = Arrays.binarySearch(segmentStarts, start);
+        segment = segment >= 0 ? segment : -segment - 2;
+        int offset = (int) (start - segmentStarts[segment]);
+        try {
+            return parse(segments[segment].slice(offset, (int) (end - start)), start);
+        } catch (InternalError e) {
+            // The JVM reports a fault on a mapped page, e.g. after the file was truncated, as an InternalError
+            throw new IOException("Could not read row at byte " + start + " of " + path
+                + "; the file changed after it was indexed", e);
+        }
+    }
+
+    private Player parse(ByteBuffer row, long start) throws IOException {
+        try {
+            return new ParallelPlayerCsvLoader.ChunkParser(row, layout.columns).parseRow();
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed number in CSV row at byte " + start + ": " + e.getMessage(), e);
+        }
+    }
+
+    public boolean isMapped() {
+        return segments != null;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    // Must not reference the PlayerCsvFile, or the cleaner would never run
+    private static final class ChannelCloser implements Runnable {
+        private final FileChannel channel;
+
+        ChannelCloser(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing useful to do with a failed close of a read-only file
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.intuit.playerservice.repository.snapshot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.interfaces.IBinarySnapshotStore;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Persists the parsed roster as a compact binary file so a restart can skip CSV parsing.
+ * The header records the size and CRC32C of the CSV it was built from; a snapshot whose
+ * source no longer matches, whose format version differs or whose payload checksum fails
+ * is ignored and the caller falls back to the CSV.
+ *
+ * Layout: magic, format version, source size, source CRC, payload length, payload CRC, then the
+ * payload: a table of distinct strings followed by the rows, with strings as varint references
+ * into the table, ints as zigzag varints and doubles as raw bits.
+ */
+@Component
+public class BinarySnapshotStore implements IBinarySnapshotStore {
+    private static final int MAGIC = 0x504C5952; // "PLYR"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 8;
+    private static final long MAX_MAPPED_SIZE = Integer.MAX_VALUE;
+    private static final int STRING_FIELDS = 16;
+
+    private final Path snapshotPath;
+
+    public BinarySnapshotStore(@Value("${player.snapshot.path:}") String snapshotPath) {
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Paths.get(snapshotPath);
+    }
+
+    public static BinarySnapshotStore disabled() {
+        return new BinarySnapshotStore(null);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return snapshotPath != null;
+    }
+
+    @Override
+    public Optional<List<Player>> read(Path csvPath) throws IOException {
+        if (!isEnabled() || !Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > MAX_MAPPED_SIZE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            long sourceSize = buffer.getLong();
+            long sourceCrc = buffer.getLong();
+            long payloadLength = buffer.getLong();
+            long payloadCrc = buffer.getLong();
+            if (sourceSize != Files.size(csvPath) || sourceCrc != checksum(csvPath)) {
+                return Optional.empty();
+            }
+            if (payloadLength != buffer.remaining() || payloadCrc != checksum(buffer.slice())) {
+                return Optional.empty();
+            }
+            return Optional.of(decode(buffer));
+        }
+    }
+
+    @Override
+    public void write(Path csvPath, List<Player> players) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Path dir = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path payloadFile = Files.createTempFile(dir, "players", ".payload");
+        Path snapshotFile = Files.createTempFile(dir, "players", ".snapshot");
+        try {
+            CRC32C payloadCrc = new CRC32C();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(payloadFile)), payloadCrc))) {
+                encode(players, out);
+            }
+            long payloadLength = Files.size(payloadFile);
+            if (HEADER_SIZE + payloadLength > MAX_MAPPED_SIZE) {
+                return;
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(snapshotFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(Files.size(csvPath));
+                out.writeLong(checksum(csvPath));
+                out.writeLong(payloadLength);
+                out.writeLong(payloadCrc.getValue());
+                Files.copy(payloadFile, out);
+            }
+            // Readers either see the previous snapshot or the complete new one
+            Files.move(snapshotFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(payloadFile);
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    private static void encode(List<Player> players, DataOutputStream out) throws IOException {
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        for (Player player : players) {
+            for (String value : strings(player)) {
+                if (value != null && strings.putIfAbsent(value, table.size()) == null) {
+                    table.add(value);
+                }
+            }
+        }
+
+        writeVarint(out, table.size());
+        for (String value : table) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarint(out, players.size());
+        for (Player player : players) {
+            // 0 marks null, otherwise the table index + 1
+            for (String value : strings(player)) {
+                writeVarint(out, value == null ? 0 : strings.get(value) + 1);
+            }
+            writeVarint(out, zigzag(player.getBirthYear()));
+            writeVarint(out, zigzag(player.getBirthMonth()));
+            writeVarint(out, zigzag(player.getBirthDay()));
+            writeNullable(out, player.getDeathYear());
+            writeNullable(out, player.getDeathMonth());
+            writeNullable(out, player.getDeathDay());
+            out.writeLong(Double.doubleToRawLongBits(player.getWeight()));
+            out.writeLong(Double.doubleToRawLongBits(player.getHeight()));
+        }
+    }
+
+    private static List<Player> decode(ByteBuffer in) {
+        String[] table = new String[readVarint(in)];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < table.length; i++) {
+            int length = readVarint(in);
+            if (length > scratch.length) {
+                scratch = new byte[length];
+            }
+            in.get(scratch, 0, length);
+            table[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        int rows = readVarint(in);
+        List<Player> players = new ArrayList<>(rows);
+        String[] values = new String[STRING_FIELDS];
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < STRING_FIELDS; i++) {
+                int ref = readVarint(in);
+                values[i] = ref == 0 ? null : table[ref - 1];
+            }
+            Player player = new Player();
+            player.setPlayerID(values[0]);
+            player.setBirthCountry(values[1]);
+            player.setBirthState(values[2]);
+            player.setBirthCity(values[3]);
+            player.setDeathCountry(values[4]);
+            player.setDeathState(values[5]);
+            player.setDeathCity(values[6]);
+            player.setNameFirst(values[7]);
+            player.setNameLast(values[8]);
+            player.setNameGiven(values[9]);
+            player.setBats(values[10]);
+            player.setPlayerThrows(values[11]);
+            player.setDebut(values[12]);
+            player.setFinalGame(values[13]);
+            player.setRetroID(values[14]);
+            player.setBbrefID(values[15]);
+            player.setBirthYear(unzigzag(readVarint(in)));
+            player.setBirthMonth(unzigzag(readVarint(in)));
+            player.setBirthDay(unzigzag(readVarint(in)));
+            player.setDeathYear(readNullable(in));
+            player.setDeathMonth(readNullable(in));
+            player.setDeathDay(readNullable(in));
+            player.setWeight(Double.longBitsToDouble(in.getLong()));
+            player.setHeight(Double.longBitsToDouble(in.getLong()));
+            players.add(player);
+        }
+        return players;
+    }
+
+    // Order must match decode()
+    private static String[] strings(Player player) {
+        return new String[] {
+            player.getPlayerID(), player.getBirthCountry(), player.getBirthState(), player.getBirthCity(),
+            player.getDeathCountry(), player.getDeathState(), player.getDeathCity(),
+            player.getNameFirst(), player.getNameLast(), player.getNameGiven(),
+            player.getBats(), player.getPlayerThrows(), player.getDebut(), player.getFinalGame(),
+            player.getRetroID(), player.getBbrefID()
+        };
+    }
+
+    private static void writeNullable(OutputStream out, Integer value) throws IOException {
+        writeVarint(out, value == null ? 0 : zigzag(value) + 1);
+    }
+
+    private static Integer readNullable(ByteBuffer in) {
+        int encoded = readVarint(in);
+        return encoded == 0 ? null : unzigzag(encoded - 1);
+    }
+
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    // CRC32C of the whole CSV, read through memory-mapped windows
+    private static long checksum(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAX_MAPPED_SIZE) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_SIZE, size - position)));
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,523 @@
+package com.intuit.playerservice.repository.store;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Column-oriented store: every Player field lives in its own array. Repeated strings are
+ * dictionary encoded with byte or char codes, unique ones are packed as UTF-8 into a single
+ * byte array, numbers are stored in the narrowest primitive array that fits, and IDs are
+ * found through open-addressing tables of row numbers. {@link Player} objects are only created when a row is read.
+ */
+public final class ColumnarPlayerStore implements IPlayerStore {
+    private final int size;
+    private final StringColumn playerId;
+    private final IntColumn birthYear;
+    private final IntColumn birthMonth;
+    private final IntColumn birthDay;
+    private final StringColumn birthCountry;
+    private final StringColumn birthState;
+    private final StringColumn birthCity;
+    private final IntColumn deathYear;
+    private final IntColumn deathMonth;
+    private final IntColumn deathDay;
+    private final StringColumn deathCountry;
+    private final StringColumn deathState;
+    private final StringColumn deathCity;
+    private final StringColumn nameFirst;
+    private final StringColumn nameLast;
+    private final StringColumn nameGiven;
+    private final DoubleColumn weight;
+    private final DoubleColumn height;
+    private final StringColumn bats;
+    private final StringColumn playerThrows;
+    private final StringColumn debut;
+    private final StringColumn finalGame;
+    private final StringColumn retroId;
+    private final StringColumn bbrefId;
+    private final IdIndex byPlayerId;
+    private final IdIndex byRetroId;
+    private final IdIndex byBbrefId;
+    private final List<Player> rows = new RowView();
+
+    public ColumnarPlayerStore(List<Player> players) {
+        this.size = players.size();
+        this.playerId = StringColumn.encode(players, Player::getPlayerID);
+        this.birthYear = IntColumn.encode(players, Player::getBirthYear);
+        this.birthMonth = IntColumn.encode(players, Player::getBirthMonth);
+        this.birthDay = IntColumn.encode(players, Player::getBirthDay);
+        this.birthCountry = StringColumn.encode(players, Player::getBirthCountry);
+        this.birthState = StringColumn.encode(players, Player::getBirthState);
+        this.birthCity = StringColumn.encode(players, Player::getBirthCity);
+        this.deathYear = IntColumn.encodeNullable(players, Player::getDeathYear);
+        this.deathMonth = IntColumn.encodeNullable(players, Player::getDeathMonth);
+        this.deathDay = IntColumn.encodeNullable(players, Player::getDeathDay);
+        this.deathCountry = StringColumn.encode(players, Player::getDeathCountry);
+        this.deathState = StringColumn.encode(players, Player::getDeathState);
+        this.deathCity = StringColumn.encode(players, Player::getDeathCity);
+        this.nameFirst = StringColumn.encode(players, Player::getNameFirst);
+        this.nameLast = StringColumn.encode(players, Player::getNameLast);
+        this.nameGiven = StringColumn.encode(players, Player::getNameGiven);
+        this.weight = DoubleColumn.encode(players, Player::getWeight);
+        this.height = DoubleColumn.encode(players, Player::getHeight);
+        this.bats = StringColumn.encode(players, Player::getBats);
+        this.playerThrows = StringColumn.encode(players, Player::getPlayerThrows);
+        this.debut = StringColumn.encode(players, Player::getDebut);
+        this.finalGame = StringColumn.encode(players, Player::getFinalGame);
+        this.retroId = StringColumn.encode(players, Player::getRetroID);
+        this.bbrefId = StringColumn.encode(players, Player::getBbrefID);
+        this.byPlayerId = new IdIndex(playerId, size);
+        this.byRetroId = new IdIndex(retroId, size);
+        this.byBbrefId = new IdIndex(bbrefId, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // A list view that builds each Player when it is read; callers should not expect identical instances
+    @Override
+    public List<Player> asList() {
+        return rows;
+    }
+
+    @Override
+    public Optional<Player> getById(String id) {
+        return row(byPlayerId.find(id));
+    }
+
+    @Override
+    public Optional<Player> getByRetroId(String retroId) {
+        return row(byRetroId.find(retroId));
+    }
+
+    @Override
+    public Optional<Player> getByBbrefId(String bbrefId) {
+        return row(byBbrefId.find(bbrefId));
+    }
+
+    @Override
+    public String getPlayerId(int row) {
+        return playerId.get(row);
+    }
+
+    // Chains a hash of each row's column values, so no Player is built; like the offset store's checksum, the value
+    // differs from the list store's for the same rows
+    @Override
+    public long getContentHash() {
+        long hash = size;
+        for (int row = 0; row < size; row++) {
+            hash = (hash ^ rowHash(row)) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 32;
+        }
+        return hash;
+    }
+
+    public Player get(int row) {
+        Player player = new Player();
+        player.setPlayerID(playerId.get(row));
+        player.setBirthYear(birthYear.get(row));
+        player.setBirthMonth(birthMonth.get(row));
+        player.setBirthDay(birthDay.get(row));
+        player.setBirthCountry(birthCountry.get(row));
+        player.setBirthState(birthState.get(row));
+        player.setBirthCity(birthCity.get(row));
+        player.setDeathYear(deathYear.getNullable(row));
+        player.setDeathMonth(deathMonth.getNullable(row));
+        player.setDeathDay(deathDay.getNullable(row));
+        player.setDeathCountry(deathCountry.get(row));
+        player.setDeathState(deathState.get(row));
+        player.setDeathCity(deathCity.get(row));
+        player.setNameFirst(nameFirst.get(row));
+        player.setNameLast(nameLast.get(row));
+        player.setNameGiven(nameGiven.get(row));
+        player.setWeight(weight.get(row));
+        player.setHeight(height.get(row));
+        player.setBats(bats.get(row));
+        player.setPlayerThrows(playerThrows.get(row));
+        player.setDebut(debut.get(row));
+        player.setFinalGame(finalGame.get(row));
+        player.setRetroID(retroId.get(row));
+        player.setBbrefID(bbrefId.get(row));
+        return player;
+    }
+
+    private int rowHash(int row) {
+        int hash = playerId.hashAt(row, 1);
+        hash = 31 * hash + birthYear.get(row);
+        hash = 31 * hash + birthMonth.get(row);
+        hash = 31 * hash + birthDay.get(row);
+        hash = birthCountry.hashAt(row, hash);
+        hash = birthState.hashAt(row, hash);
+        hash = birthCity.hashAt(row, hash);
+        hash = 31 * hash + deathYear.nullableHash(row);
+        hash = 31 * hash + deathMonth.nullableHash(row);
+        hash = 31 * hash + deathDay.nullableHash(row);
+        hash = deathCountry.hashAt(row, hash);
+        hash = deathState.hashAt(row, hash);
+        hash = deathCity.hashAt(row, hash);
+        hash = nameFirst.hashAt(row, hash);
+        hash = nameLast.hashAt(row, hash);
+        hash = nameGiven.hashAt(row, hash);
+        hash = 31 * hash + Double.hashCode(weight.get(row));
+        hash = 31 * hash + Double.hashCode(height.get(row));
+        hash = bats.hashAt(row, hash);
+        hash = playerThrows.hashAt(row, hash);
+        hash = debut.hashAt(row, hash);
+        hash = finalGame.hashAt(row, hash);
+        hash = retroId.hashAt(row, hash);
+        return bbrefId.hashAt(row, hash);
+    }
+
+    private Optional<Player> row(int row) {
+        return row < 0 ? Optional.empty() : Optional.of(get(row));
+    }
+
+    private final class RowView extends AbstractList<Player> implements RandomAccess {
+        @Override
+        public Player get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return ColumnarPlayerStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    // Dictionary-encoded when values repeat; mostly-unique columns such as IDs are packed as UTF-8 into one byte array
+    private static final class StringColumn {
+        private static final int MAX_DICTIONARY_SIZE = Character.MAX_VALUE + 1;
+
+        private final String[] dictionary;
+        private final byte[] byteCodes;
+        private final char[] charCodes;
+        private final byte[] packed;
+        private final int[] offsets;
+        private final BitSet nulls;
+
+        private StringColumn(String[] dictionary, byte[] byteCodes, char[] charCodes) {
+            this.dictionary = dictionary;
+            this.byteCodes = byteCodes;
+            this.charCodes = charCodes;
+            this.packed = null;
+            this.offsets = null;
+            this.nulls = null;
+        }
+
+        private StringColumn(byte[] packed, int[] offsets, BitSet nulls) {
+            this.dictionary = null;
+            this.byteCodes = null;
+            this.charCodes = null;
+            this.packed = packed;
+            this.offsets = offsets;
+            this.nulls = nulls;
+        }
+
+        static StringColumn encode(List<Player> players, Function<Player, String> getter) {
+            String[] values = new String[players.size()];
+            Map<String, Integer> codes = new HashMap<>();
+            for (int row = 0; row < values.length; row++) {
+                values[row] = getter.apply(players.get(row));
+                if (codes.size() <= MAX_DICTIONARY_SIZE) {
+                    codes.putIfAbsent(values[row], codes.size());
+                }
+            }
+            // A dictionary only pays off when values actually repeat
+            if (codes.size() > MAX_DICTIONARY_SIZE || codes.size() * 10L > values.length * 9L) {
+                return pack(values);
+            }
+            String[] dictionary = new String[codes.size()];
+            codes.forEach((value, code) -> dictionary[code] = value);
+            if (dictionary.length <= 256) {
+                byte[] byteCodes = new byte[values.length];
+                for (int row = 0; row < values.length; row++) {
+                    byteCodes[row] = (byte) (int) codes.get(values[row]);
+                }
+                return new StringColumn(dictionary, byteCodes, null);
+            }
+            char[] charCodes = new char[values.length];
+            for (int row = 0; row < values.length; row++) {
+                charCodes[row] = (char) (int) codes.get(values[row]);
+            }
+            return new StringColumn(dictionary, null, charCodes);
+        }
+
+        private static StringColumn pack(String[] values) {
+            byte[][] encoded = new byte[values.length][];
+            int[] offsets = new int[values.length + 1];
+            BitSet nulls = new BitSet();
+            for (int row = 0; row < values.length; row++) {
+                if (values[row] == null) {
+                    nulls.set(row);
+                    encoded[row] = new byte[0];
+                } else {
+                    encoded[row] = values[row].getBytes(StandardCharsets.UTF_8);
+                }
+                offsets[row + 1] = offsets[row] + encoded[row].length;
+            }
+            byte[] packed = new byte[offsets[values.length]];
+            for (int row = 0; row < values.length; row++) {
+                System.arraycopy(encoded[row], 0, packed, offsets[row], encoded[row].length);
+            }
+            return new StringColumn(packed, offsets, nulls.isEmpty() ? null : nulls);
+        }
+
+        String get(int row) {
+            if (packed == null) {
+                return dictionary[code(row)];
+            }
+            if (nulls != null && nulls.get(row)) {
+                return null;
+            }
+            return new String(packed, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+        }
+
+        // Null or empty; such values are never indexed
+        boolean isBlank(int row) {
+            if (packed == null) {
+                String value = dictionary[code(row)];
+                return value == null || value.isEmpty();
+            }
+            return offsets[row + 1] == offsets[row];
+        }
+
+        // Packed rows are hashed and compared as bytes, so ID lookups do not decode a String per probe
+        int hashAt(int row) {
+            if (packed == null) {
+                byte[] bytes = dictionary[code(row)].getBytes(StandardCharsets.UTF_8);
+                return hash(bytes, 0, bytes.length);
+            }
+            return hash(packed, offsets[row], offsets[row + 1] - offsets[row]);
+        }
+
+        // Folds the value's String hash into hash; ASCII packed rows are hashed from their bytes without decoding
+        int hashAt(int row, int hash) {
+            if (packed == null) {
+                String value = dictionary[code(row)];
+                return 31 * hash + (value == null ? 43 : value.hashCode());
+            }
+            if (nulls != null && nulls.get(row)) {
+                return 31 * hash + 43;
+            }
+            int valueHash = 0;
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                if (packed[i] < 0) {
+                    return 31 * hash + get(row).hashCode();
+                }
+                valueHash = 31 * valueHash + packed[i];
+            }
+            return 31 * hash + valueHash;
+        }
+
+        boolean matches(int row, String key, byte[] keyBytes) {
+            if (packed == null) {
+                return key.equals(dictionary[code(row)]);
+            }
+            return Arrays.equals(packed, offsets[row], offsets[row + 1], keyBytes, 0, keyBytes.length);
+        }
+
+        boolean sameValue(int row, int other) {
+            if (packed == null) {
+                return code(row) == code(other);
+            }
+            return Arrays.equals(packed, offsets[row], offsets[row + 1], packed, offsets[other], offsets[other + 1]);
+        }
+
+        static int hash(byte[] bytes, int from, int length) {
+            int hash = 1;
+            for (int i = from; i < from + length; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private int code(int row) {
+            return byteCodes != null ? byteCodes[row] & 0xFF : charCodes[row];
+        }
+    }
+
+    // Stored as an offset from the column minimum in byte, char or int arrays; nulls tracked in a bit set
+    private static final class IntColumn {
+        private final int base;
+        private final byte[] bytes;
+        private final char[] chars;
+        private final int[] ints;
+        private final BitSet nulls;
+
+        private IntColumn(int base, byte[] bytes, char[] chars, int[] ints, BitSet nulls) {
+            this.base = base;
+            this.bytes = bytes;
+            this.chars = chars;
+            this.ints = ints;
+            this.nulls = nulls;
+        }
+
+        static IntColumn encode(List<Player> players, ToIntFunction<Player> getter) {
+            int[] values = new int[players.size()];
+            for (int row = 0; row < values.length; row++) {
+                values[row] = getter.applyAsInt(players.get(row));
+            }
+            return narrow(values, null);
+        }
+
+        static IntColumn encodeNullable(List<Player> players, Function<Player, Integer> getter) {
+            int[] values = new int[players.size()];
+            BitSet nulls = new BitSet();
+            for (int row = 0; row < values.length; row++) {
+                Integer value = getter.apply(players.get(row));
+                if (value == null) {
+                    nulls.set(row);
+                } else {
+                    values[row] = value;
+                }
+            }
+            return narrow(values, nulls.isEmpty() ? null : nulls);
+        }
+
+        private static IntColumn narrow(int[] values, BitSet nulls) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int row = 0; row < values.length; row++) {
+                if (nulls == null || !nulls.get(row)) {
+                    min = Math.min(min, values[row]);
+                    max = Math.max(max, values[row]);
+                }
+            }
+            if (min > max) {
+                min = 0;
+                max = 0;
+            }
+            long range = (long) max - min;
+            if (range <= 0xFF) {
+                byte[] bytes = new byte[values.length];
+                for (int row = 0; row < values.length; row++) {
+                    bytes[row] = (byte) (values[row] - min);
+                }
+                return new IntColumn(min, bytes, null, null, nulls);
+            }
+            if (range <= Character.MAX_VALUE) {
+                char[] chars = new char[values.length];
+                for (int row = 0; row < values.length; row++) {
+                    chars[row] = (char) (values[row] - min);
+                }
+                return new IntColumn(min, null, chars, null, nulls);
+            }
+            return new IntColumn(0, null, null, values, nulls);
+        }
+
+        int get(int row) {
+            if (bytes != null) {
+                return base + (bytes[row] & 0xFF);
+            }
+            if (chars != null) {
+                return base + chars[row];
+            }
+            return ints[row];
+        }
+
+        Integer getNullable(int row) {
+            return nulls != null && nulls.get(row) ? null : get(row);
+        }
+
+        int nullableHash(int row) {
+            return nulls != null && nulls.get(row) ? 43 : get(row);
+        }
+    }
+
+    // Whole-number measurements reuse the narrow int encoding; anything fractional keeps a double array
+    private static final class DoubleColumn {
+        private final IntColumn whole;
+        private final double[] values;
+
+        private DoubleColumn(IntColumn whole, double[] values) {
+            this.whole = whole;
+            this.values = values;
+        }
+
+        static DoubleColumn encode(List<Player> players, ToDoubleFunction<Player> getter) {
+            double[] values = new double[players.size()];
+            boolean integral = true;
+            for (int row = 0; row < values.length; row++) {
+                values[row] = getter.applyAsDouble(players.get(row));
+                integral &= values[row] == (int) values[row] && Double.doubleToRawLongBits(values[row]) != Long.MIN_VALUE;
+            }
+            if (!integral) {
+                return new DoubleColumn(null, values);
+            }
+            int[] ints = new int[values.length];
+            for (int row = 0; row < values.length; row++) {
+                ints[row] = (int) values[row];
+            }
+            return new DoubleColumn(IntColumn.narrow(ints, null), null);
+        }
+
+        double get(int row) {
+            return whole != null ? whole.get(row) : values[row];
+        }
+    }
+
+    // Open-addressing table of row + 1 (0 marks a free slot); keys are compared against the column bytes
+    private static final class IdIndex {
+        private final StringColumn keys;
+        private final int[] table;
+        private final int mask;
+
+        IdIndex(StringColumn keys, int size) {
+            this.keys = keys;
+            this.table = new int[Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1];
+            this.mask = table.length - 1;
+            for (int row = 0; row < size; row++) {
+                if (keys.isBlank(row)) {
+                    continue;
+                }
+                int slot = keys.hashAt(row) & mask;
+                boolean duplicate = false;
+                while (table[slot] != 0) {
+                    if (keys.sameValue(table[slot] - 1, row)) {
+                        // The first row wins on duplicate keys, as with the list store
+                        duplicate = true;
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                if (!duplicate) {
+                    table[slot] = row + 1;
+                }
+            }
+        }
+
+        int find(String key) {
+            if (key == null || key.isEmpty()) {
+                return -1;
+            }
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            int slot = StringColumn.hash(bytes, 0, bytes.length) & mask;
+            while (table[slot] != 0) {
+                int row = table[slot] - 1;
+                if (keys.matches(row, key, bytes)) {
+                    return row;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+}
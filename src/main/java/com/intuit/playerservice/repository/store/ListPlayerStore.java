@@ -0,0 +1,171 @@
+package com.intuit.playerservice.repository.store;
+
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Default store: the parsed {@link Player} objects in file order plus a hash index per ID column.
+ * After an incremental load the ID indexes share the previous store's maps and only hold the keys
+ * that changed since, so a small edit copies a handful of entries instead of three roster-sized maps.
+ */
+public final class ListPlayerStore implements IPlayerStore {
+    public static final ListPlayerStore EMPTY = new ListPlayerStore(List.of());
+
+    // Changed keys are folded into a new base map once they reach this share of it, which bounds both
+    // the overlay a reload copies and the extra lookup it costs
+    private static final int OVERLAY_MAX_RATIO = 16;
+
+    private final List<Player> players;
+    private final IdIndex byPlayerId;
+    private final IdIndex byRetroId;
+    private final IdIndex byBbrefId;
+    // True when no index key is shared by two rows, which is what makes patching the indexes safe
+    private final boolean uniqueKeys;
+
+    public ListPlayerStore(List<Player> players) {
+        boolean[] unique = { true };
+        this.players = Collections.unmodifiableList(players);
+        this.byPlayerId = index(players, Player::getPlayerID, unique);
+        this.byRetroId = index(players, Player::getRetroID, unique);
+        this.byBbrefId = index(players, Player::getBbrefID, unique);
+        this.uniqueKeys = unique[0];
+    }
+
+    private ListPlayerStore(List<Player> players, IdIndex byPlayerId, IdIndex byRetroId, IdIndex byBbrefId) {
+        this.players = Collections.unmodifiableList(players);
+        this.byPlayerId = byPlayerId;
+        this.byRetroId = byRetroId;
+        this.byBbrefId = byBbrefId;
+        this.uniqueKeys = true;
+    }
+
+    /**
+     * Builds the store that follows an incremental load. When the change set is small the
+     * previous indexes are shared and only the affected keys recorded on top of them; otherwise,
+     * or when duplicate keys make patching ambiguous, the indexes are rebuilt from the delta's rows.
+     */
+    public static ListPlayerStore fromDelta(ListPlayerStore previous, PlayerDelta delta) {
+        boolean patchable = previous.uniqueKeys
+            && !delta.hasDuplicateIds()
+            && delta.isSmall(previous.size());
+        if (patchable) {
+            IdIndex byPlayerId = previous.byPlayerId.patch(delta, Player::getPlayerID);
+            IdIndex byRetroId = previous.byRetroId.patch(delta, Player::getRetroID);
+            IdIndex byBbrefId = previous.byBbrefId.patch(delta, Player::getBbrefID);
+            if (byPlayerId != null && byRetroId != null && byBbrefId != null) {
+                return new ListPlayerStore(delta.getPlayers(), byPlayerId, byRetroId, byBbrefId);
+            }
+        }
+        return new ListPlayerStore(delta.getPlayers());
+    }
+
+    @Override
+    public int size() {
+        return players.size();
+    }
+
+    @Override
+    public List<Player> asList() {
+        return players;
+    }
+
+    @Override
+    public Optional<Player> getById(String id) {
+        return Optional.ofNullable(byPlayerId.get(id));
+    }
+
+    @Override
+    public Optional<Player> getByRetroId(String retroId) {
+        return Optional.ofNullable(byRetroId.get(retroId));
+    }
+
+    @Override
+    public Optional<Player> getByBbrefId(String bbrefId) {
+        return Optional.ofNullable(byBbrefId.get(bbrefId));
+    }
+
+    // The first row wins on duplicate keys, matching the old linear scan; blank keys are not indexed
+    private static IdIndex index(List<Player> players, Function<Player, String> key, boolean[] unique) {
+        Map<String, Player> index = new HashMap<>((int) (players.size() / 0.75f) + 1);
+        for (Player player : players) {
+            String id = key.apply(player);
+            if (isKey(id) && index.putIfAbsent(id, player) != null) {
+                unique[0] = false;
+            }
+        }
+        return new IdIndex(Collections.unmodifiableMap(index), Map.of());
+    }
+
+    private static boolean isKey(String id) {
+        return id != null && !id.isEmpty();
+    }
+
+    // A base map shared with earlier stores plus the keys changed since it was built; empty marks a removed key
+    private static final class IdIndex {
+        final Map<String, Player> base;
+        final Map<String, Optional<Player>> overlay;
+
+        IdIndex(Map<String, Player> base, Map<String, Optional<Player>> overlay) {
+            this.base = base;
+            this.overlay = overlay;
+        }
+
+        Player get(String key) {
+            Optional<Player> changed = overlay.get(key);
+            return changed != null ? changed.orElse(null) : base.get(key);
+        }
+
+        // Returns null when an added key collides with an existing one, so the caller rebuilds instead
+        IdIndex patch(PlayerDelta delta, Function<Player, String> key) {
+            Map<String, Optional<Player>> changes = new HashMap<>(overlay);
+            Function<String, Player> current = id -> {
+                Optional<Player> changed = changes.get(id);
+                return changed != null ? changed.orElse(null) : base.get(id);
+            };
+            for (Player player : delta.getRemoved()) {
+                remove(changes, current, key.apply(player), player);
+            }
+            for (Player player : delta.getSuperseded()) {
+                remove(changes, current, key.apply(player), player);
+            }
+            for (List<Player> players : List.of(delta.getAdded(), delta.getUpdated())) {
+                for (Player player : players) {
+                    String id = key.apply(player);
+                    if (isKey(id)) {
+                        if (current.apply(id) != null) {
+                            return null;
+                        }
+                        changes.put(id, Optional.of(player));
+                    }
+                }
+            }
+            if (changes.size() * OVERLAY_MAX_RATIO <= base.size()) {
+                return new IdIndex(base, Collections.unmodifiableMap(changes));
+            }
+            Map<String, Player> merged = new HashMap<>(base);
+            changes.forEach((id, player) -> {
+                if (player.isPresent()) {
+                    merged.put(id, player.get());
+                } else {
+                    merged.remove(id);
+                }
+            });
+            return new IdIndex(Collections.unmodifiableMap(merged), Map.of());
+        }
+
+        private static void remove(Map<String, Optional<Player>> changes, Function<String, Player> current,
+                String id, Player player) {
+            if (isKey(id) && current.apply(id) == player) {
+                changes.put(id, Optional.empty());
+            }
+        }
+    }
+}
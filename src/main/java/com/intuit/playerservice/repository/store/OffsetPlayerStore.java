@@ -0,0 +1,294 @@
+package com.intuit.playerservice.repository.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
+import com.intuit.playerservice.repository.loader.PlayerCsvColumn;
+import com.intuit.playerservice.repository.loader.PlayerCsvFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Store for rosters larger than the heap: only the byte offset of every row and its packed player ID
+ * stay in memory, and rows are parsed from the CSV when they are read. Parsed rows go through a
+ * bounded cache shared with later snapshots of the same repository, keyed by generation and row.
+ * Retro and bbref IDs are indexed by hash alone; candidates are parsed to confirm the match.
+ */
+public final class OffsetPlayerStore implements IPlayerStore {
+    // Rough retained size of a Player and of each String it holds, for weighing cache entries
+    private static final int PLAYER_BYTES = 136;
+    private static final int STRING_BYTES = 48;
+
+    private final PlayerCsvFile file;
+    private final Cache<Long, Player> cache;
+    private final long generation;
+    private final int size;
+    // CRC32C of the file's data rows as indexed
+    private final long contentHash;
+    // Start of each row, plus one trailing entry for the end of the last row
+    private final long[] offsets;
+    // Player IDs as UTF-8, row after row; idEnds[row] is where the row's ID ends
+    private final byte[] ids;
+    private final int[] idEnds;
+    private final int[] retroHashes;
+    private final int[] bbrefHashes;
+    private final int[] byPlayerId;
+    private final int[] byRetroId;
+    private final int[] byBbrefId;
+    private final int mask;
+    private final List<Player> rows = new RowView();
+
+    private OffsetPlayerStore(PlayerCsvFile file, Cache<Long, Player> cache, long generation, Scan scan,
+            long contentHash) {
+        this.file = file;
+        this.cache = cache;
+        this.generation = generation;
+        this.size = scan.size;
+        this.contentHash = contentHash;
+        this.offsets = Arrays.copyOf(scan.offsets, size + 1);
+        this.ids = Arrays.copyOf(scan.ids, scan.idLength);
+        this.idEnds = Arrays.copyOf(scan.idEnds, size);
+        this.retroHashes = Arrays.copyOf(scan.retroHashes, size);
+        this.bbrefHashes = Arrays.copyOf(scan.bbrefHashes, size);
+        int capacity = Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.byPlayerId = new int[capacity];
+        this.byRetroId = new int[capacity];
+        this.byBbrefId = new int[capacity];
+        for (int row = 0; row < size; row++) {
+            int start = idStart(row);
+            if (idEnds[row] > start && find(ids, start, idEnds[row]) < 0) {
+                // The first row wins on duplicate IDs, as with the list store
+                insert(byPlayerId, keyHash(ids, start, idEnds[row]), row);
+            }
+            insert(byRetroId, retroHashes[row], row);
+            insert(byBbrefId, bbrefHashes[row], row);
+        }
+    }
+
+    // Indexes every row of the file; the generation keeps cached rows of earlier loads from being returned
+    public static OffsetPlayerStore index(PlayerCsvFile file, Cache<Long, Player> cache, long generation)
+            throws IOException {
+        Scan scan = new Scan();
+        long contentHash = file.scan(scan);
+        return new OffsetPlayerStore(file, cache, generation, scan, contentHash);
+    }
+
+    // Estimated heap held by a cached row, so the cache is bounded by bytes rather than entries
+    public static int weigh(Player player) {
+        int bytes = PLAYER_BYTES;
+        for (String value : new String[] { player.getPlayerID(), player.getBirthCountry(), player.getBirthState(),
+                player.getBirthCity(), player.getDeathCountry(), player.getDeathState(), player.getDeathCity(),
+                player.getNameFirst(), player.getNameLast(), player.getNameGiven(), player.getBats(),
+                player.getPlayerThrows(), player.getDebut(), player.getFinalGame(), player.getRetroID(),
+                player.getBbrefID() }) {
+            if (value != null) {
+                bytes += STRING_BYTES + value.length();
+            }
+        }
+        return bytes;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    // Hashing the rows would parse the whole file; the checksum taken during the scan is free
+    @Override
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Rows come from the file, which the next load may rewrite, and the cache drops this generation then
+    @Override
+    public boolean ownsRows() {
+        return false;
+    }
+
+    // Reads go through the cache, so repeated reads of a cached row return the same instance
+    @Override
+    public List<Player> asList() {
+        return rows;
+    }
+
+    @Override
+    public Optional<Player> getById(String id) {
+        if (id == null || id.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] key = id.getBytes(StandardCharsets.UTF_8);
+        int row = find(key, 0, key.length);
+        return row < 0 ? Optional.empty() : Optional.of(get(row));
+    }
+
+    @Override
+    public Optional<Player> getByRetroId(String retroId) {
+        return findByHash(byRetroId, retroHashes, retroId, Player::getRetroID);
+    }
+
+    @Override
+    public Optional<Player> getByBbrefId(String bbrefId) {
+        return findByHash(byBbrefId, bbrefHashes, bbrefId, Player::getBbrefID);
+    }
+
+    @Override
+    public String getPlayerId(int row) {
+        return new String(ids, idStart(row), idEnds[row] - idStart(row), StandardCharsets.UTF_8);
+    }
+
+    public Player get(int row) {
+        return cache.get((generation << 32) | row, key -> parse(row));
+    }
+
+    // Seeks to the row's offset; a row that no longer holds the indexed ID means the file was rewritten in place
+    private Player parse(int row) {
+        Player player;
+        try {
+            player = file.read(offsets[row], offsets[row + 1]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!Objects.equals(Objects.toString(player.getPlayerID(), ""), getPlayerId(row))) {
+            throw new IllegalStateException("Row " + row + " of " + file.getPath()
+                + " changed after it was indexed; it is served again after the next reload");
+        }
+        return player;
+    }
+
+    private Optional<Player> findByHash(int[] table, int[] hashes, String key, Function<Player, String> value) {
+        if (key == null || key.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = keyHash(bytes, 0, bytes.length);
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int row = table[slot] - 1;
+            if (hashes[row] == hash) {
+                Player player = get(row);
+                if (key.equals(value.apply(player))) {
+                    return Optional.of(player);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int find(byte[] key, int from, int to) {
+        for (int slot = keyHash(key, from, to) & mask; byPlayerId[slot] != 0; slot = (slot + 1) & mask) {
+            int row = byPlayerId[slot] - 1;
+            if (Arrays.equals(ids, idStart(row), idEnds[row], key, from, to)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    // A zero hash marks a blank key, which is never indexed
+    private void insert(int[] table, int hash, int row) {
+        if (hash == 0) {
+            return;
+        }
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = row + 1;
+    }
+
+    private int idStart(int row) {
+        return row == 0 ? 0 : idEnds[row - 1];
+    }
+
+    // 32-bit FNV-1a
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 0x811c9dc5;
+        for (int i = from; i < to; i++) {
+            hash ^= bytes[i] & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    // Like hash, but never zero for a non-blank key
+    private static int keyHash(byte[] bytes, int from, int to) {
+        if (to == from) {
+            return 0;
+        }
+        int hash = hash(bytes, from, to);
+        return hash == 0 ? 1 : hash;
+    }
+
+    // Growable arrays filled while the file is scanned; ID bytes are taken from the scan without building Strings
+    private static final class Scan implements PlayerCsvFile.RowVisitor {
+        int size;
+        long[] offsets = new long[1024];
+        byte[] ids = new byte[16 * 1024];
+        int idLength;
+        int[] idEnds = new int[1024];
+        int[] retroHashes = new int[1024];
+        int[] bbrefHashes = new int[1024];
+
+        @Override
+        public void id(PlayerCsvColumn column, byte[] bytes, int length) {
+            ensureRowCapacity();
+            if (column == PlayerCsvColumn.PLAYER_ID) {
+                if (idLength + length > ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(idLength + length, ids.length * 2));
+                }
+                System.arraycopy(bytes, 0, ids, idLength, length);
+                idLength += length;
+            } else if (column == PlayerCsvColumn.RETRO_ID) {
+                retroHashes[size] = keyHash(bytes, 0, length);
+            } else {
+                bbrefHashes[size] = keyHash(bytes, 0, length);
+            }
+        }
+
+        @Override
+        public void row(long start, long end) {
+            ensureRowCapacity();
+            idEnds[size] = idLength;
+            offsets[size] = start;
+            offsets[size + 1] = end;
+            size++;
+        }
+
+        private void ensureRowCapacity() {
+            if (size + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                idEnds = Arrays.copyOf(idEnds, offsets.length);
+                retroHashes = Arrays.copyOf(retroHashes, offsets.length);
+                bbrefHashes = Arrays.copyOf(bbrefHashes, offsets.length);
+            }
+        }
+    }
+
+    private final class RowView extends AbstractList<Player> implements RandomAccess {
+        @Override
+        public Player get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return OffsetPlayerStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.intuit.playerservice.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter;
+
+/**
+ * Token-bucket rate limits per client. Every client has a standard bucket for cheap lookups and a
+ * separate, much smaller one for endpoints that return the whole roster, so a client that keeps
+ * downloading everything runs out of its expensive budget while its lookups, and everyone else's,
+ * are unaffected. Buckets refill continuously; one idle long enough to have refilled completely is
+ * indistinguishable from a new one, so idle clients are simply evicted.
+ * A client-identifying header is honoured only on requests from the configured trusted proxies,
+ * since anyone else could send a fresh value with every request to get a fresh budget.
+ */
+@Service
+public class ClientRateLimiter implements IClientRateLimiter {
+    // Far longer than any bucket takes to refill at the configured rates
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+    private static final long MAX_CLIENTS = 100_000;
+
+    private final boolean enabled;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    // Indexed by budget
+    private final double[] tokensPerNano = new double[Budget.values().length];
+    private final double[] burst = new double[Budget.values().length];
+    private final IPlayerMetrics metrics;
+    private final LongSupplier nanoClock;
+    private final Cache<String, TokenBucket[]> buckets;
+
+    @Autowired
+    public ClientRateLimiter(@Value("${player.rate-limit.enabled:false}") boolean enabled,
+            @Value("${player.rate-limit.client-header:}") String clientHeader,
+            @Value("${player.rate-limit.trusted-proxies:}") String trustedProxies,
+            @Value("${player.rate-limit.requests-per-second:200}") double requestsPerSecond,
+            @Value("${player.rate-limit.burst:400}") double requestBurst,
+            @Value("${player.rate-limit.expensive.requests-per-second:10}") double expensivePerSecond,
+            @Value("${player.rate-limit.expensive.burst:20}") double expensiveBurst,
+            IPlayerMetrics metrics) {
+        this(enabled, clientHeader, trustedProxies, requestsPerSecond, requestBurst, expensivePerSecond, expensiveBurst, metrics,
+            System::nanoTime);
+    }
+
+    // trustedProxies is a comma-separated list of the remote addresses allowed to set the client header
+    public ClientRateLimiter(boolean enabled, String clientHeader, String trustedProxies, double requestsPerSecond,
+            double requestBurst, double expensivePerSecond, double expensiveBurst, IPlayerMetrics metrics,
+            LongSupplier nanoClock) {
+        if (requestsPerSecond <= 0 || expensivePerSecond <= 0 || requestBurst < 1 || expensiveBurst < 1) {
+            throw new IllegalArgumentException("Rate limits need positive rates and bursts of at least one request");
+        }
+        this.enabled = enabled;
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+        this.trustedProxies = trustedProxies == null ? Set.of() : Arrays.stream(trustedProxies.split(","))
+            .map(String::trim)
+            .filter(address -> !address.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        this.tokensPerNano[Budget.STANDARD.ordinal()] = requestsPerSecond / 1e9;
+        this.burst[Budget.STANDARD.ordinal()] = requestBurst;
+        this.tokensPerNano[Budget.EXPENSIVE.ordinal()] = expensivePerSecond / 1e9;
+        this.burst[Budget.EXPENSIVE.ordinal()] = expensiveBurst;
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .maximumSize(MAX_CLIENTS)
+            .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    @Override
+    public boolean isTrustedProxy(String remoteAddress) {
+        return trustedProxies.contains(remoteAddress);
+    }
+
+    @Override
+    public long tryAcquire(String client, Budget budget) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(client, key -> newBuckets(now))[budget.ordinal()];
+        long waitNanos = bucket.tryTake(now);
+        if (waitNanos > 0) {
+            metrics.recordRateLimited(budget);
+        }
+        return waitNanos;
+    }
+
+    private TokenBucket[] newBuckets(long now) {
+        TokenBucket[] created = new TokenBucket[Budget.values().length];
+        for (Budget budget : Budget.values()) {
+            created[budget.ordinal()] = new TokenBucket(tokensPerNano[budget.ordinal()], burst[budget.ordinal()], now);
+        }
+        return created;
+    }
+
+    // Contended only by concurrent requests from one client
+    private static final class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double tokensPerNano, double capacity, long now) {
+            this.tokensPerNano = tokensPerNano;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryTake(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
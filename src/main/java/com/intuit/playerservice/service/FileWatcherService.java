@@ -1,52 +1,119 @@
 package com.intuit.playerservice.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import jakarta.annotation.PreDestroy;
 import com.intuit.playerservice.logging.ILogger;
 import com.intuit.playerservice.service.interfaces.IFileWatcherService;
 import java.io.IOException;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+/**
+ * Watches registered files and notifies their listeners once a change has settled.
+ * Bursts of MODIFY/CREATE events for a file are coalesced: the listener runs only after
+ * no event arrived for the debounce window and the file's size and mtime stopped changing.
+ * Listeners run on a reload thread of their own file, never on the watch thread, so files
+ * reload independently of each other. Each file has at most one reload running and one
+ * queued; changes that settle while a reload is already queued are folded into it, since
+ * that reload will read the file as it is when it starts.
+ */
 @Service
 public class FileWatcherService implements IFileWatcherService {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
     private WatchService watchService;
     private final Map<Path, Consumer<Path>> fileListeners = new ConcurrentHashMap<>();
+    private final Map<Path, PendingChange> pendingChanges = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService debounceExecutor =
+        Executors.newSingleThreadScheduledExecutor(daemon("file-watcher-debounce"));
+    private final ExecutorService watchExecutor = Executors.newSingleThreadExecutor(daemon("file-watcher"));
+    private final Map<Path, ExecutorService> reloadExecutors = new ConcurrentHashMap<>();
+    private final Set<Path> queuedReloads = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventsReceived = new AtomicLong();
+    private final AtomicLong eventsCoalesced = new AtomicLong();
+    private final AtomicLong changesDispatched = new AtomicLong();
+    private final long debounceNanos;
     private volatile boolean running = false;
     private ILogger logger;
 
     public FileWatcherService(ILogger logger) throws IOException {
+        this(logger, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    @Autowired
+    public FileWatcherService(ILogger logger,
+            @Value("${player.watcher.debounce-ms:" + DEFAULT_DEBOUNCE_MILLIS + "}") long debounceMillis)
+            throws IOException {
         this.logger = logger;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
         this.watchService = FileSystems.getDefault().newWatchService();
     }
 
     @Override
     public void registerFile(Path path, Consumer<Path> onChange) throws IOException {
         Path dir = path.getParent();
-        dir.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
+        // CREATE covers deployments that write a temp file and rename it into place
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
         fileListeners.put(path, onChange);
-        logger.info("Registered file: " + path.toFile());
+        reloadExecutors.computeIfAbsent(path,
+            file -> Executors.newSingleThreadExecutor(daemon("file-watcher-reload-" + file.getFileName())));
+        logger.info("Registered file: {}", path.toFile());
     }
 
     @Override
-    public void startWatching() {
+    public synchronized void startWatching() {
+        if (running) {
+            return;
+        }
         running = true;
         logger.info("Starting file watcher...");
-        new Thread(this::watchFiles).start();
+        watchExecutor.execute(this::watchFiles);
     }
 
+    // Closing the watch service ends the watch loop; a reload already running is left to finish
     @Override
+    @PreDestroy
     public void stopWatching() {
         running = false;
+        debounceExecutor.shutdownNow();
+        reloadExecutors.values().forEach(ExecutorService::shutdown);
         try {
             watchService.close();
             logger.info("Stopped file watcher.");
         } catch (IOException e) {
             logger.error("Error while stopping file watcher", e);
         }
+        watchExecutor.shutdown();
+    }
+
+    @Override
+    public long getEventsReceived() {
+        return eventsReceived.get();
+    }
+
+    @Override
+    public long getEventsCoalesced() {
+        return eventsCoalesced.get();
+    }
+
+    @Override
+    public long getChangesDispatched() {
+        return changesDispatched.get();
     }
 
     private void watchFiles() {
@@ -55,15 +122,20 @@ public class FileWatcherService implements IFileWatcherService {
                 WatchKey key = watchService.take(); // Or use watchService.poll() for a non-blocking call
                 Path currentDir = (Path) key.watchable(); // Get the path to the watched directory
                 
-                List<WatchEvent<Path>> events = (List<WatchEvent<Path>>) (List<?>) key.pollEvents();
-                for (WatchEvent<Path> event : events) {
-                    Path relativePath = event.context();
+                List<WatchEvent<?>> events = key.pollEvents();
+                for (WatchEvent<?> event : events) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events were dropped; treat every registered file in this directory as changed
+                        fileListeners.keySet().stream()
+                            .filter(path -> currentDir.equals(path.getParent()))
+                            .forEach(this::onEvent);
+                        continue;
+                    }
+                    Path relativePath = (Path) event.context();
                     Path fullPath = currentDir.resolve(relativePath);
 
-                    Consumer<Path> listener = fileListeners.get(fullPath);
-                    if (listener != null) {
-                        logger.info("File changed: " + fullPath.toFile());
-                        listener.accept(fullPath);
+                    if (fileListeners.containsKey(fullPath)) {
+                        onEvent(fullPath);
                     }
                 }
                 key.reset();
@@ -75,4 +147,153 @@ public class FileWatcherService implements IFileWatcherService {
             logger.info("Watch service closed.");
         }
     }
-}
\ No newline at end of file
+
+    private void onEvent(Path path) {
+        eventsReceived.incrementAndGet();
+        long now = System.nanoTime();
+        PendingChange created = new PendingChange(now, FileState.of(path));
+        // Refreshing under the map's lock keeps it atomic with the settle task's removal
+        PendingChange pending = pendingChanges.compute(path, (file, existing) -> {
+            if (existing == null) {
+                return created;
+            }
+            existing.lastEventNanos = now;
+            return existing;
+        });
+        if (pending != created) {
+            eventsCoalesced.incrementAndGet();
+            return;
+        }
+        schedule(path, debounceNanos);
+    }
+
+    private void schedule(Path path, long delayNanos) {
+        try {
+            debounceExecutor.schedule(() -> settle(path), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingChanges.remove(path);
+        }
+    }
+
+    // Fires the listener once the window has passed without events and the file looks fully written
+    private void settle(Path path) {
+        PendingChange pending = pendingChanges.get(path);
+        if (pending == null) {
+            return;
+        }
+        long lastEventNanos = pending.lastEventNanos;
+        long quietNanos = System.nanoTime() - lastEventNanos;
+        if (quietNanos < debounceNanos) {
+            schedule(path, debounceNanos - quietNanos);
+            return;
+        }
+        FileState current = FileState.of(path);
+        if (current == null && pending.observed == null) {
+            if (!removeSettled(path, pending, lastEventNanos)) {
+                schedule(path, debounceNanos);
+                return;
+            }
+            logger.warn("File disappeared before it settled: {}", path.toFile());
+            return;
+        }
+        if (current == null || !current.equals(pending.observed)) {
+            // Still being written, or mid-rename: wait another window
+            pending.observed = current;
+            schedule(path, debounceNanos);
+            return;
+        }
+        if (!removeSettled(path, pending, lastEventNanos)) {
+            // An event arrived while this task was checking the file: start a new window
+            schedule(path, debounceNanos);
+            return;
+        }
+        Consumer<Path> listener = fileListeners.get(path);
+        if (listener == null) {
+            return;
+        }
+        if (!queuedReloads.add(path)) {
+            eventsCoalesced.incrementAndGet();
+            return;
+        }
+        changesDispatched.incrementAndGet();
+        logger.info("File changed: {}", path.toFile());
+        try {
+            reloadExecutors.get(path).execute(() -> {
+                // Leaving the queue before reading lets a change made during this reload queue the next one
+                queuedReloads.remove(path);
+                try {
+                    listener.accept(path);
+                } catch (RuntimeException e) {
+                    logger.error("Error handling change of file: " + path.toFile(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedReloads.remove(path);
+        }
+    }
+
+    // Removes the change only if no event refreshed it since the settle task read it
+    private boolean removeSettled(Path path, PendingChange pending, long lastEventNanos) {
+        boolean[] removed = {false};
+        pendingChanges.computeIfPresent(path, (file, change) -> {
+            if (change != pending || change.lastEventNanos != lastEventNanos) {
+                return change;
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class PendingChange {
+        volatile long lastEventNanos;
+        volatile FileState observed;
+
+        PendingChange(long lastEventNanos, FileState observed) {
+            this.lastEventNanos = lastEventNanos;
+            this.observed = observed;
+        }
+    }
+
+    // Size and modification time of a file; null when the file cannot be read right now
+    private static final class FileState {
+        final long size;
+        final long modifiedMillis;
+
+        private FileState(long size, long modifiedMillis) {
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+        }
+
+        static FileState of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof FileState)) {
+                return false;
+            }
+            FileState that = (FileState) other;
+            return size == that.size && modifiedMillis == that.modifiedMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, modifiedMillis);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.intuit.playerservice.service;
+
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.service.interfaces.IPlayerChangeFeed;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The reload diffs of one dataset, for downstream caches that would otherwise poll the full roster.
+ * The last replaySize changes are kept, so a client that reconnects with the version it last saw
+ * continues where it left off; a client further behind than that gets a reset. Publishing never
+ * waits on a subscriber: each one has a buffer of its own, and one that falls more than
+ * subscriberBuffer changes behind is disconnected, to reconnect and catch up from the replay buffer.
+ */
+public class PlayerChangeFeed implements IPlayerChangeFeed {
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final IPlayerMetrics metrics;
+    // Oldest first; guarded by this, as is latestVersion
+    private final Deque<PlayerChangeEvent> replay = new ArrayDeque<>();
+    private long latestVersion = -1;
+    // A subscriber that overflows removes itself while publish is iterating over this set
+    private final Set<FluxSink<PlayerChangeEvent>> subscribers = new CopyOnWriteArraySet<>();
+
+    public PlayerChangeFeed(int replaySize, int subscriberBuffer, IPlayerMetrics metrics) {
+        this.replaySize = Math.max(0, replaySize);
+        this.subscriberBuffer = Math.max(1, subscriberBuffer);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public synchronized void publish(PlayerChangeEvent change) {
+        if (replaySize > 0) {
+            if (replay.size() == replaySize) {
+                replay.removeFirst();
+            }
+            replay.addLast(change);
+        }
+        latestVersion = change.getVersion();
+        for (FluxSink<PlayerChangeEvent> subscriber : subscribers) {
+            subscriber.next(change);
+        }
+    }
+
+    @Override
+    public synchronized void reset(long previousVersion, long version) {
+        replay.clear();
+        latestVersion = version;
+        PlayerChangeEvent reset = resetEvent(previousVersion, version);
+        for (FluxSink<PlayerChangeEvent> subscriber : subscribers) {
+            subscriber.next(reset);
+        }
+    }
+
+    @Override
+    public Flux<PlayerChangeEvent> subscribe(Long lastVersion) {
+        return Flux.defer(() -> {
+            Sinks.Empty<Void> overflow = Sinks.empty();
+            return Flux.<PlayerChangeEvent>create(sink -> {
+                // Registering under the lock keeps a reload from landing between the replay and the first live change
+                synchronized (this) {
+                    for (PlayerChangeEvent change : missedSince(lastVersion)) {
+                        sink.next(change);
+                    }
+                    subscribers.add(sink);
+                }
+                sink.onDispose(() -> subscribers.remove(sink));
+            })
+                .onBackpressureBuffer(replaySize + subscriberBuffer, change -> {
+                    metrics.recordChangeFeedOverflow();
+                    overflow.tryEmitEmpty();
+                }, BufferOverflowStrategy.ERROR)
+                // Publishing only queues a change; it is written to the connection on another thread
+                .publishOn(Schedulers.parallel(), 1)
+                // The buffer hands on its overflow error only after the changes still queued, which a subscriber
+                // that stopped reading never takes, so its stream is ended right away instead
+                .takeUntilOther(overflow.asMono());
+        });
+    }
+
+    // Guarded by this
+    private List<PlayerChangeEvent> missedSince(Long lastVersion) {
+        if (lastVersion == null || latestVersion < 0 || lastVersion == latestVersion) {
+            return List.of();
+        }
+        List<PlayerChangeEvent> missed = new ArrayList<>();
+        for (PlayerChangeEvent change : replay) {
+            if (!missed.isEmpty() || change.getPreviousVersion() == lastVersion) {
+                missed.add(change);
+            }
+        }
+        if (missed.isEmpty()) {
+            // Older than the buffer, or a version this process never published: changes cannot catch the client up
+            return List.of(resetEvent(lastVersion, latestVersion));
+        }
+        return missed;
+    }
+
+    private static PlayerChangeEvent resetEvent(long previousVersion, long version) {
+        return new PlayerChangeEvent(version, previousVersion, true, List.of(), List.of(), List.of());
+    }
+}
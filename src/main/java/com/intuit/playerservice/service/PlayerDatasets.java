@@ -0,0 +1,173 @@
+package com.intuit.playerservice.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.repository.ColumnarPlayerRepository;
+import com.intuit.playerservice.repository.OffsetPlayerRepository;
+import com.intuit.playerservice.repository.PlayerRepository;
+import com.intuit.playerservice.repository.interfaces.IBinarySnapshotStore;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import com.intuit.playerservice.service.interfaces.IPlayerDatasets;
+import com.intuit.playerservice.service.interfaces.IPlayerService;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * The rosters served by this process, by name. The default dataset is player.file.path behind the
+ * PlayerService bean; each player.datasets.&lt;name&gt;=&lt;csv path&gt; entry adds another with its own
+ * repository, snapshot, binary snapshot file and watcher registration, built with the same settings.
+ * Datasets load in parallel at startup and reload on their own threads, and a reload only ever swaps
+ * its own dataset's snapshot, so reads of one dataset never wait on another. Each dataset must read
+ * a file of its own, since the file watcher keeps one listener per file.
+ */
+@Service
+public class PlayerDatasets implements IPlayerDatasets {
+    // Names appear in URLs and binary snapshot file names
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Map<String, Dataset> datasets = new LinkedHashMap<>();
+    private final Environment environment;
+
+    @Autowired
+    public PlayerDatasets(IPlayerService defaultService, IPlayerRepository defaultRepository,
+            IFileWatcherService fileWatcherService, IPlayerCsvLoader csvLoader, IPlayerMetrics metrics,
+            ILogger logger, PlayerProperties properties, Environment environment) {
+        this.environment = environment;
+        datasets.put(DEFAULT_DATASET, new Dataset(path(DEFAULT_DATASET, properties.getFile().getPath()),
+            defaultRepository, defaultService));
+
+        String storage = properties.getRepository();
+        String snapshotPath = properties.getSnapshot().getPath();
+        for (Map.Entry<String, String> entry : new TreeMap<>(properties.getDatasets()).entrySet()) {
+            String name = entry.getKey();
+            if (!NAME.matcher(name).matches() || DEFAULT_DATASET.equals(name)) {
+                throw new IllegalArgumentException("Invalid dataset name: " + name);
+            }
+            // Each dataset keeps its own binary snapshot next to the default one
+            IBinarySnapshotStore snapshotStore = snapshotPath.isBlank()
+                ? BinarySnapshotStore.disabled()
+                : new BinarySnapshotStore(snapshotPath + "." + name);
+            IPlayerRepository repository;
+            if ("columnar".equals(storage)) {
+                repository = new ColumnarPlayerRepository(logger, csvLoader, snapshotStore, metrics);
+            } else if ("offset".equals(storage)) {
+                // Each dataset gets a row cache of the configured size
+                repository = new OffsetPlayerRepository(logger, properties.getRowCache().getMaxBytes(),
+                    properties.getOffset().isMmap(), metrics, name);
+            } else {
+                repository = new PlayerRepository(logger, csvLoader, snapshotStore,
+                    properties.getReload().isIncremental(), metrics);
+            }
+            // Each dataset publishes its own reloads
+            IPlayerService service = new PlayerService(repository, fileWatcherService, logger, metrics, properties);
+            datasets.put(name, new Dataset(path(name, entry.getValue()), repository, service));
+        }
+        rejectSharedFiles();
+    }
+
+    // A second registration for a file would silently replace the first dataset's reload listener
+    private void rejectSharedFiles() {
+        Map<Path, String> owners = new HashMap<>();
+        for (Map.Entry<String, Dataset> entry : datasets.entrySet()) {
+            String owner = owners.putIfAbsent(entry.getValue().path.toAbsolutePath().normalize(), entry.getKey());
+            if (owner != null) {
+                throw new IllegalArgumentException("Datasets " + owner + " and " + entry.getKey()
+                    + " both read " + entry.getValue().path);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (Arrays.asList(environment.getActiveProfiles()).contains("test")) {
+            return;
+        }
+        loadAll();
+    }
+
+    // Each dataset registers with the watcher and loads on a thread named after it; startup waits for all of them
+    public void loadAll() {
+        try {
+            List<FutureTask<Void>> loads = new ArrayList<>();
+            for (Map.Entry<String, Dataset> entry : datasets.entrySet()) {
+                Dataset dataset = entry.getValue();
+                FutureTask<Void> load = new FutureTask<>(() -> dataset.service.initFileWatching(dataset.path), null);
+                new Thread(load, "dataset-loader-" + entry.getKey()).start();
+                loads.add(load);
+            }
+            for (FutureTask<Void> load : loads) {
+                load.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading datasets", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Could not load datasets", e.getCause());
+        }
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(datasets.keySet());
+    }
+
+    @Override
+    public IPlayerService getService(String name) {
+        return dataset(name).service;
+    }
+
+    @Override
+    public IPlayerRepository getRepository(String name) {
+        return dataset(name).repository;
+    }
+
+    private Dataset dataset(String name) {
+        Dataset dataset = datasets.get(name == null ? DEFAULT_DATASET : name);
+        if (dataset == null) {
+            throw new NoSuchElementException("Unknown dataset: " + name);
+        }
+        return dataset;
+    }
+
+    private static Path path(String name, String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("No CSV path configured for dataset " + name);
+        }
+        return Paths.get(path);
+    }
+
+    private static final class Dataset {
+        final Path path;
+        final IPlayerRepository repository;
+        final IPlayerService service;
+
+        Dataset(Path path, IPlayerRepository repository, IPlayerService service) {
+            this.path = path;
+            this.repository = repository;
+            this.service = service;
+        }
+    }
+}
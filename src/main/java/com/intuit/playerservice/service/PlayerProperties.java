@@ -0,0 +1,77 @@
+package com.intuit.playerservice.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import com.intuit.playerservice.repository.OffsetPlayerRepository;
+import lombok.Data;
+
+/**
+ * The player.* settings that every dataset is built with, bound once so the default dataset's
+ * PlayerService and the datasets PlayerDatasets builds read the same values and defaults.
+ */
+@Data
+@Component
+@ConfigurationProperties("player")
+public class PlayerProperties {
+    private final FileSettings file = new FileSettings();
+    // list, columnar or offset
+    private String repository = "list";
+    private final RowCache rowCache = new RowCache();
+    private final Offset offset = new Offset();
+    private final Reload reload = new Reload();
+    private final Snapshot snapshot = new Snapshot();
+    private final Page page = new Page();
+    private final Batch batch = new Batch();
+    private final ChangeFeed changeFeed = new ChangeFeed();
+    // Dataset name to CSV path, for the rosters served besides the default one
+    private Map<String, String> datasets = new LinkedHashMap<>();
+
+    @Data
+    public static class FileSettings {
+        private String path;
+    }
+
+    @Data
+    public static class RowCache {
+        private long maxBytes = OffsetPlayerRepository.DEFAULT_CACHE_BYTES;
+    }
+
+    @Data
+    public static class Offset {
+        private boolean mmap = true;
+    }
+
+    @Data
+    public static class Reload {
+        private boolean incremental = false;
+    }
+
+    @Data
+    public static class Snapshot {
+        // Blank disables the binary snapshot
+        private String path = "";
+        // Snapshots kept for version-pinned reads, including the current one
+        private int retained = 3;
+    }
+
+    @Data
+    public static class Page {
+        private int maxSize = 1000;
+    }
+
+    @Data
+    public static class Batch {
+        private int maxIds = 1000;
+    }
+
+    @Data
+    public static class ChangeFeed {
+        private boolean enabled = true;
+        // Reloads kept for subscribers that reconnect
+        private int replay = 64;
+        // How far one subscriber may fall behind before it is dropped
+        private int subscriberBuffer = 16;
+    }
+}
@@ -0,0 +1,143 @@
+package com.intuit.playerservice.service;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.playerservice.model.CachedResponse;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.service.interfaces.IPlayerResponseCache;
+
+/**
+ * Pre-rendered JSON for the by-ID and paged endpoints. Data never changes within a snapshot,
+ * so each player and page is serialized once, on first request, and the bytes are reused until
+ * the repository publishes a new version; then the whole cache is dropped at once.
+ * Availability rules match {@link PlayerService}: a failed load yields no player and a page
+ * request throws.
+ */
+@Service
+public class PlayerResponseCache implements IPlayerResponseCache {
+
+    private final IPlayerRepository playerRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxPageBytes;
+    // Same bound PlayerService puts on every page it serves
+    private final int maxPageSize;
+    private final AtomicReference<Rendered> rendered = new AtomicReference<>(new Rendered(PlayerSnapshot.EMPTY));
+
+    public PlayerResponseCache(IPlayerRepository playerRepository, ObjectMapper objectMapper, boolean enabled,
+            long maxPageBytes) {
+        this(playerRepository, objectMapper, new PlayerProperties(), enabled, maxPageBytes);
+    }
+
+    @Autowired
+    public PlayerResponseCache(IPlayerRepository playerRepository, ObjectMapper objectMapper,
+            PlayerProperties properties,
+            @Value("${player.response-cache.enabled:false}") boolean enabled,
+            @Value("${player.response-cache.max-page-bytes:67108864}") long maxPageBytes) {
+        this.playerRepository = playerRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxPageBytes = maxPageBytes;
+        this.maxPageSize = properties.getPage().getMaxSize();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public CachedResponse getById(String id) {
+        Rendered current = current();
+        if (!current.snapshot.isAvailable()) {
+            return null;
+        }
+        CachedResponse cached = current.players.get(id);
+        if (cached == null) {
+            Player player = current.snapshot.getById(id).orElse(null);
+            if (player == null) {
+                return null;
+            }
+            cached = current.players.computeIfAbsent(id, key -> current.render(player));
+        }
+        return cached;
+    }
+
+    // Empty pages yield null so the controller answers 204, as it does for an empty list
+    @Override
+    public CachedResponse getPlayersPage(int page, int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ": " + size);
+        }
+        Rendered current = current();
+        if (!current.snapshot.isAvailable()) {
+            throw new IllegalStateException(current.snapshot.getLoadError());
+        }
+        Long key = ((long) page << 32) | (size & 0xFFFFFFFFL);
+        CachedResponse cached = current.pages.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<Player> players = current.snapshot.getPage(page, size);
+        if (players.isEmpty()) {
+            return null;
+        }
+        cached = current.render(players);
+        // Pages can be requested in many sizes, so their total is bounded; past the bound they are rendered per request
+        if (current.pageBytes.addAndGet(cached.getJson().length) <= maxPageBytes) {
+            CachedResponse existing = current.pages.putIfAbsent(key, cached);
+            return existing != null ? existing : cached;
+        }
+        current.pageBytes.addAndGet(-cached.getJson().length);
+        return cached;
+    }
+
+    // Swaps in an empty cache whenever the repository has published a different version
+    private Rendered current() {
+        PlayerSnapshot snapshot = this.playerRepository.getSnapshot();
+        Rendered current = rendered.get();
+        if (current.snapshot.getVersion() == snapshot.getVersion()
+                && current.snapshot.isAvailable() == snapshot.isAvailable()) {
+            return current;
+        }
+        Rendered fresh = new Rendered(snapshot);
+        // A reader that fetched the snapshot just before a reload must not reinstall the older version
+        if (snapshot.getVersion() < current.snapshot.getVersion()) {
+            return fresh;
+        }
+        return rendered.compareAndSet(current, fresh) ? fresh : rendered.get();
+    }
+
+    private final class Rendered {
+        final PlayerSnapshot snapshot;
+        final String tag;
+        final ConcurrentHashMap<String, CachedResponse> players = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, CachedResponse> pages = new ConcurrentHashMap<>();
+        final AtomicLong pageBytes = new AtomicLong();
+
+        Rendered(PlayerSnapshot snapshot) {
+            this.snapshot = snapshot;
+            // Replicas number their snapshots independently, so the load time keeps one replica's tags from matching another's
+            long loadedAt = snapshot.getLoadedAt() == null ? 0 : snapshot.getLoadedAt().toEpochMilli();
+            this.tag = snapshot.getVersion() + "-" + Long.toString(loadedAt, 36);
+        }
+
+        CachedResponse render(Object body) {
+            try {
+                return new CachedResponse(objectMapper.writeValueAsBytes(body), tag, snapshot.getVersion(),
+                    snapshot.getContentHash());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize response", e);
+            }
+        }
+    }
+}
@@ -1,120 +1,344 @@
 package com.intuit.playerservice.service;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.springframework.stereotype.Service;
 import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.model.PlayerCursor;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.model.PlayerLookup;
+import com.intuit.playerservice.model.PlayerPage;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.model.PlayerSearchResult;
+import com.intuit.playerservice.model.PlayerStats;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.index.PlayerNameIndex;
 import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
 import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import com.intuit.playerservice.service.interfaces.IPlayerChangeFeed;
 import com.intuit.playerservice.service.interfaces.IPlayerService;
 import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.metrics.PlayerMetrics;
 import java.nio.file.Path;
-import jakarta.annotation.PostConstruct;
-import java.nio.file.Paths;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.env.Environment;
-import java.util.function.Supplier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 
 @Service
 public class PlayerService implements IPlayerService {
 
-    @Value("${player.file.path}")
-    private String filePathString;
-    
-    @Autowired
-    private Environment env;
+    // The service itself, or the service a view was taken from; settings and state below are only set on it
+    private final PlayerService root;
+    private int maxPageSize;
+    private int maxBatchIds;
+    // Snapshots kept for version-pinned reads, including the current one
+    private int retainedSnapshots;
 
-    private Path filePath;
     private IPlayerRepository playerRepository;
     private IFileWatcherService fileWatcherService;
     private ILogger logger;
-    private String loadErrorMessage = null;
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IPlayerMetrics metrics;
+    // Served snapshots, newest first; shared with the pinned views of this service
+    private AtomicReference<PlayerSnapshot[]> retained;
+    // Set on a view returned by atVersion: every read goes to this snapshot instead of the current one
+    private PlayerSnapshot pinned;
+    // Null when disabled
+    private IPlayerChangeFeed changeFeed;
 
     public PlayerService(IPlayerRepository playerRepository, 
         IFileWatcherService fileWatcherService, 
         ILogger logger ) {
+        this(playerRepository, fileWatcherService, logger, PlayerMetrics.disabled());
+    }
+
+    public PlayerService(IPlayerRepository playerRepository,
+        IFileWatcherService fileWatcherService,
+        ILogger logger,
+        IPlayerMetrics metrics) {
+        this(playerRepository, fileWatcherService, logger, metrics, new PlayerProperties());
+    }
+
+    // Also used for the datasets PlayerDatasets builds outside the container, so all of them share one configuration
+    @Autowired
+    public PlayerService(IPlayerRepository playerRepository,
+        IFileWatcherService fileWatcherService,
+        ILogger logger,
+        IPlayerMetrics metrics,
+        PlayerProperties properties) {
+        this.root = this;
         this.playerRepository = playerRepository;
         this.fileWatcherService = fileWatcherService;
         this.logger = logger;
+        this.metrics = metrics;
+        this.maxPageSize = properties.getPage().getMaxSize();
+        this.maxBatchIds = properties.getBatch().getMaxIds();
+        this.retainedSnapshots = properties.getSnapshot().getRetained();
+        this.retained = new AtomicReference<>(new PlayerSnapshot[0]);
+        PlayerProperties.ChangeFeed feed = properties.getChangeFeed();
+        this.changeFeed = feed.isEnabled()
+            ? new PlayerChangeFeed(feed.getReplay(), feed.getSubscriberBuffer(), metrics)
+            : null;
     }
 
-    @PostConstruct
-    public void init() {
-        this.filePath = Paths.get(filePathString);
-
-        if (Arrays.asList(env.getActiveProfiles()).contains("test")) 
-            return;
-
-        initFileWatching(filePath);
+    // A view is two references, so one per request costs no more than a lookup
+    private PlayerService(PlayerService service, PlayerSnapshot pinned) {
+        this.root = service.root;
+        this.pinned = pinned;
     }
 
     public void initFileWatching(Path path)
     {
         try {
-            logger.info("Initializing PlayerService...");
+            root.logger.info("Initializing PlayerService...");
 
-            this.fileWatcherService.registerFile(path, this::loadPlayers);
-            this.loadPlayers(path);
-            this.fileWatcherService.startWatching();
+            root.fileWatcherService.registerFile(path, root::loadPlayers);
+            root.loadPlayers(path);
+            root.fileWatcherService.startWatching();
             
-            logger.info("PlayerService initialized successfully.");
+            root.logger.info("PlayerService initialized successfully.");
         } catch (IOException e) {
-            this.loadErrorMessage = "Error initializing FileWatcherService: " + e.getMessage();
-            logger.error("Error initializing FileWatcherService", e);
+            root.playerRepository.recordLoadFailure("Error initializing FileWatcherService: " + e.getMessage());
+            root.logger.error("Error initializing FileWatcherService", e);
         }
     }
 
+    // Time-to-first-request: the application accepts traffic once this event fires
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        PlayerSnapshot snapshot = root.playerRepository.getSnapshot();
+        root.logger.info("Ready to serve requests {} ms after JVM start ({} players, status {})",
+            ManagementFactory.getRuntimeMXBean().getUptime(), snapshot.size(), snapshot.getStatus());
+    }
+
+    // Readers are never blocked here: the repository swaps in the new snapshot only once it is fully built,
+    // and a failed reload keeps the last good snapshot serving
     public void loadPlayers(Path path) {
-        lock.writeLock().lock();
+        PlayerSnapshot previous = root.playerRepository.getSnapshot();
         try {
-            this.playerRepository.loadPlayers(path);
-            this.loadErrorMessage = null;
+            root.playerRepository.loadPlayers(path);
         } catch (IOException e) {
-            this.loadErrorMessage = "Error loading data: " + e.getMessage();
-            logger.error("Error loading data: ", e);
-        } finally {
-            lock.writeLock().unlock();
+            root.playerRepository.recordLoadFailure("Error loading data: " + e.getMessage());
+            root.logger.error("Error loading data: ", e);
+            return;
+        }
+        publishChanges(previous, root.playerRepository.getSnapshot());
+    }
+
+    // Runs on the reload thread once the new snapshot is already serving. Reloads of one file never overlap,
+    // so each change starts at the version the one before it ended at. An incremental reload recorded its
+    // changes while it loaded; otherwise rows held in memory are compared, and stores that would have to
+    // parse their whole file to compare publish a reset instead.
+    private void publishChanges(PlayerSnapshot previous, PlayerSnapshot next) {
+        if (root.changeFeed == null || next == previous || next.getVersion() == previous.getVersion()
+                || next.getStatus() != PlayerSnapshot.LoadStatus.LOADED) {
+            return;
+        }
+        PlayerChangeEvent changes = next.getChanges();
+        if (changes != null && changes.getPreviousVersion() == previous.getVersion()) {
+            root.changeFeed.publish(changes);
+            return;
+        }
+        if (!hasData(previous) || !previous.ownsRows() || !next.ownsRows()) {
+            root.changeFeed.reset(previous.getVersion(), next.getVersion());
+            return;
         }
+        PlayerDelta delta = PlayerDelta.compare(previous, next.getPlayers(), next.getRowHashes());
+        root.changeFeed.publish(delta.toChangeEvent(previous.getVersion(), next.getVersion()));
     }
 
     public Optional<Player> getById(String id) {
-        return executeWithReadLock(() -> {
-            if (this.loadErrorMessage != null) {
-                return Optional.empty();
-            }
-            return this.playerRepository.getById(id);
-        });
+        PlayerSnapshot snapshot = snapshot();
+        if (!snapshot.isAvailable()) {
+            return recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, Optional.empty());
+        }
+        return recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, snapshot.getById(id));
+    }
+
+    // One snapshot read for the whole batch; a failed load leaves an empty snapshot, so every ID is reported not found
+    public List<PlayerLookup> getByIds(List<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("A list of player IDs is required");
+        }
+        if (ids.size() > root.maxBatchIds) {
+            throw new IllegalArgumentException("At most " + root.maxBatchIds + " IDs per request: " + ids.size());
+        }
+        List<Optional<Player>> players = snapshot().getByIds(ids);
+        List<PlayerLookup> lookups = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Player player = recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, players.get(i)).orElse(null);
+            lookups.add(new PlayerLookup(ids.get(i), player != null, player));
+        }
+        return lookups;
+    }
+
+    public Optional<Player> getByRetroId(String retroId) {
+        PlayerSnapshot snapshot = snapshot();
+        if (!snapshot.isAvailable()) {
+            return recordLookup(IPlayerMetrics.Lookup.RETRO_ID, Optional.empty());
+        }
+        return recordLookup(IPlayerMetrics.Lookup.RETRO_ID, snapshot.getByRetroId(retroId));
+    }
+
+    public Optional<Player> getByBbrefId(String bbrefId) {
+        PlayerSnapshot snapshot = snapshot();
+        if (!snapshot.isAvailable()) {
+            return recordLookup(IPlayerMetrics.Lookup.BBREF_ID, Optional.empty());
+        }
+        return recordLookup(IPlayerMetrics.Lookup.BBREF_ID, snapshot.getByBbrefId(bbrefId));
     }
 
     public List<Player> getAll() {
-        return executeWithReadLock(() -> {
-            if (this.loadErrorMessage != null) {
-                throw new IllegalStateException(this.loadErrorMessage);
-            }
-            return this.playerRepository.getAll();
-        });
+        return availableSnapshot().getPlayers();
     }
 
+    // Bounded like every other page, so a single request cannot list the whole roster on the standard budget
     public List<Player> getPlayersPage(int page, int size) {
-        return executeWithReadLock(() -> {
-            if (this.loadErrorMessage != null) {
-                throw new IllegalStateException(this.loadErrorMessage);
+        if (size < 1 || size > root.maxPageSize) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + root.maxPageSize + ": " + size);
+        }
+        return availableSnapshot().getPage(page, size);
+    }
+
+    // Keyset pagination: the cursor names the last playerID served, so the scan resumes after it even if
+    // the data was reloaded in between. One extra row is fetched to tell whether another page exists.
+    public PlayerPage getPlayersAfter(String cursor, int size) {
+        if (size < 1 || size > root.maxPageSize) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + root.maxPageSize + ": " + size);
+        }
+        String afterId = cursor == null || cursor.isEmpty() ? null : PlayerCursor.decode(cursor).getLastPlayerId();
+        PlayerSnapshot snapshot = availableSnapshot();
+        List<Player> rows = snapshot.getPageAfter(afterId, size + 1);
+        if (rows.size() <= size) {
+            return new PlayerPage(rows, null, snapshot.getVersion());
+        }
+        List<Player> page = rows.subList(0, size);
+        String next = new PlayerCursor(page.get(size - 1).getPlayerID()).encode();
+        return new PlayerPage(page, next, snapshot.getVersion());
+    }
+
+    // Filters run against the secondary indexes built with the snapshot; only the returned window is materialized
+    public PlayerSearchResult search(PlayerQuery query) {
+        if (query.getLimit() < 1 || query.getLimit() > root.maxPageSize) {
+            throw new IllegalArgumentException(
+                "Limit must be between 1 and " + root.maxPageSize + ": " + query.getLimit());
+        }
+        if (query.getOffset() < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + query.getOffset());
+        }
+        PlayerSnapshot snapshot = availableSnapshot();
+        int[] rows = snapshot.getSearchIndex().search(query);
+        List<Player> players = snapshot.getPlayers();
+        int from = Math.min(query.getOffset(), rows.length);
+        int to = (int) Math.min((long) from + query.getLimit(), rows.length);
+        List<Player> window = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            window.add(players.get(rows[i]));
+        }
+        return new PlayerSearchResult(window, rows.length, snapshot.getVersion());
+    }
+
+    // Type-ahead over first, last and given names, ignoring case and accents; maxEdits allows typos
+    public List<Player> searchByName(String query, int maxEdits, int limit) {
+        if (query == null || PlayerNameIndex.fold(query).isEmpty()) {
+            throw new IllegalArgumentException("Name query must contain a letter or digit");
+        }
+        if (maxEdits < 0 || maxEdits > PlayerNameIndex.MAX_EDITS) {
+            throw new IllegalArgumentException("maxEdits must be between 0 and " + PlayerNameIndex.MAX_EDITS + ": " + maxEdits);
+        }
+        if (limit < 1 || limit > root.maxPageSize) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + root.maxPageSize + ": " + limit);
+        }
+        PlayerSnapshot snapshot = availableSnapshot();
+        List<Player> players = snapshot.getPlayers();
+        List<Player> matches = new ArrayList<>();
+        for (int row : snapshot.getNameIndex().search(query, maxEdits, limit)) {
+            matches.add(players.get(row));
+        }
+        return matches;
+    }
+
+    // Computed once per snapshot, so repeated dashboard requests cost no more than a lookup
+    public PlayerStats getStats() {
+        return availableSnapshot().getStats();
+    }
+
+    private Optional<Player> recordLookup(IPlayerMetrics.Lookup lookup, Optional<Player> player) {
+        root.metrics.recordLookup(lookup, player.isPresent());
+        return player;
+    }
+
+    // Every read of a request made through a view comes from one snapshot, so the version it reports is the data's
+    public IPlayerService atVersion(Long version) {
+        if (this.pinned != null && (version == null || version == this.pinned.getVersion())) {
+            return this;
+        }
+        PlayerSnapshot current = root.playerRepository.getSnapshot();
+        retain(current);
+        if (version == null || version == current.getVersion()) {
+            return new PlayerService(this, current);
+        }
+        for (PlayerSnapshot snapshot : root.retained.get()) {
+            if (snapshot.getVersion() == version) {
+                return new PlayerService(this, snapshot);
             }
-            return this.playerRepository.getPlayersPage(page, size);
-        });
+        }
+        throw new SnapshotExpiredException(version, current.getVersion());
     }
 
-    private <T> T executeWithReadLock(Supplier<T> action) {
-        lock.readLock().lock();
-        try {
-            return action.get();
-        } finally {
-            lock.readLock().unlock();
+    public long getSnapshotVersion() {
+        return snapshot().getVersion();
+    }
+
+    public long getContentHash() {
+        return snapshot().getContentHash();
+    }
+
+    public IPlayerChangeFeed getChangeFeed() {
+        return root.changeFeed;
+    }
+
+    // Only versions a client can have been told about are kept: the ones served. Unchanged rows are shared
+    // between snapshots of incremental reloads, so an older one costs little more than its indexes. Snapshots
+    // that read their rows from a file are not kept, as the next load may rewrite it and evict their rows.
+    private void retain(PlayerSnapshot current) {
+        while (true) {
+            PlayerSnapshot[] kept = root.retained.get();
+            if (!hasData(current) || !current.ownsRows()
+                    || (kept.length > 0 && kept[0].getVersion() >= current.getVersion())) {
+                return;
+            }
+            int size = Math.min(kept.length + 1, Math.max(1, root.retainedSnapshots));
+            PlayerSnapshot[] next = new PlayerSnapshot[size];
+            next[0] = current;
+            System.arraycopy(kept, 0, next, 1, next.length - 1);
+            if (root.retained.compareAndSet(kept, next)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean hasData(PlayerSnapshot snapshot) {
+        return snapshot.getStatus() == PlayerSnapshot.LoadStatus.LOADED
+            || snapshot.getStatus() == PlayerSnapshot.LoadStatus.STALE;
+    }
+
+    private PlayerSnapshot snapshot() {
+        return this.pinned != null ? this.pinned : root.playerRepository.getSnapshot();
+    }
+
+    private PlayerSnapshot availableSnapshot() {
+        PlayerSnapshot snapshot = snapshot();
+        if (!snapshot.isAvailable()) {
+            throw new IllegalStateException(snapshot.getLoadError());
         }
+        return snapshot;
     }
-}
\ No newline at end of file
+}
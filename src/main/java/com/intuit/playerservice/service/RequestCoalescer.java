@@ -0,0 +1,69 @@
+package com.intuit.playerservice.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.service.interfaces.IRequestCoalescer;
+
+/**
+ * Single-flight execution of identical requests. The first request for a key runs the lookup on
+ * its own thread; requests for the same key that arrive while it runs wait for, and share, its
+ * result or exception instead of repeating the work. Nothing is kept once the leader finishes, so
+ * this is not a cache: a request that arrives afterwards, e.g. after a reload, runs afresh.
+ * Results are shared between callers, which is safe because snapshot data is immutable.
+ */
+@Service
+public class RequestCoalescer implements IRequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final IPlayerMetrics metrics;
+    private final boolean enabled;
+
+    public RequestCoalescer(IPlayerMetrics metrics, @Value("${player.coalescing.enabled:true}") boolean enabled) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public <T> T execute(String key, Supplier<T> action) {
+        try {
+            return submit(key, action).join();
+        } catch (CompletionException e) {
+            // Suppliers only throw unchecked exceptions; rethrow the original so callers map it as usual
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submit(String key, Supplier<T> action) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = enabled ? inFlight.putIfAbsent(key, mine) : null;
+        if (leader != null) {
+            metrics.recordCoalesced();
+            return (CompletableFuture<T>) leader;
+        }
+        Object result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            return (CompletableFuture<T>) mine;
+        }
+        // Removed before completing, so no request sees a finished result through the map
+        inFlight.remove(key, mine);
+        mine.complete(result);
+        return (CompletableFuture<T>) mine;
+    }
+}
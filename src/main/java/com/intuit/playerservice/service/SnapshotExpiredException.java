@@ -0,0 +1,26 @@
+package com.intuit.playerservice.service;
+
+/**
+ * A read was pinned to a snapshot version that is no longer retained, or that this process never
+ * published. The client has to start its read over at the current version.
+ */
+public class SnapshotExpiredException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long version;
+    private final long currentVersion;
+
+    public SnapshotExpiredException(long version, long currentVersion) {
+        super("Snapshot version " + version + " is not retained; the current version is " + currentVersion);
+        this.version = version;
+        this.currentVersion = currentVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
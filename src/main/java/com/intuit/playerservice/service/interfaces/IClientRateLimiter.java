@@ -0,0 +1,14 @@
+package com.intuit.playerservice.service.interfaces;
+
+public interface IClientRateLimiter {
+    // Each client has one token bucket per budget; expensive endpoints draw only from their own
+    enum Budget { STANDARD, EXPENSIVE }
+
+    boolean isEnabled();
+    // Request header that identifies the client; null when clients are told apart by remote address
+    String getClientHeader();
+    // Whether requests from this address may name their client with the header; anyone else could spoof it
+    boolean isTrustedProxy(String remoteAddress);
+    // Zero when a token was taken, otherwise the nanoseconds until the client's next token
+    long tryAcquire(String client, Budget budget);
+}
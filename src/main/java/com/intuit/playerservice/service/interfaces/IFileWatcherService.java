@@ -7,4 +7,7 @@ public interface IFileWatcherService {
     void registerFile(Path path, Consumer<Path> onChange) throws IOException;
     void startWatching();
     void stopWatching();
-}
\ No newline at end of file
+    long getEventsReceived();
+    long getEventsCoalesced();
+    long getChangesDispatched();
+}
@@ -0,0 +1,13 @@
+package com.intuit.playerservice.service.interfaces;
+
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import reactor.core.publisher.Flux;
+
+public interface IPlayerChangeFeed {
+    // Delivers the change of one reload to every subscriber and keeps it for replay
+    void publish(PlayerChangeEvent change);
+    // Tells subscribers to refetch, e.g. after the first load, and forgets the buffered changes
+    void reset(long previousVersion, long version);
+    // Changes made after lastVersion, replayed from the buffer, then live ones; null starts with the next reload
+    Flux<PlayerChangeEvent> subscribe(Long lastVersion);
+}
@@ -0,0 +1,17 @@
+package com.intuit.playerservice.service.interfaces;
+
+import java.util.Set;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+
+public interface IPlayerDatasets {
+    String DEFAULT_DATASET = "default";
+
+    Set<String> getNames();
+    // A null name selects the default dataset; an unknown one throws NoSuchElementException
+    IPlayerService getService(String name);
+    IPlayerRepository getRepository(String name);
+
+    static boolean isDefault(String name) {
+        return name == null || DEFAULT_DATASET.equals(name);
+    }
+}
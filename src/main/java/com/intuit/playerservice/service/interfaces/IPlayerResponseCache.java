@@ -0,0 +1,9 @@
+package com.intuit.playerservice.service.interfaces;
+
+import com.intuit.playerservice.model.CachedResponse;
+
+public interface IPlayerResponseCache {
+    boolean isEnabled();
+    CachedResponse getById(String id);
+    CachedResponse getPlayersPage(int page, int size);
+}
@@ -4,11 +4,29 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerLookup;
+import com.intuit.playerservice.model.PlayerPage;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.model.PlayerSearchResult;
+import com.intuit.playerservice.model.PlayerStats;
 
 public interface IPlayerService {
     void loadPlayers(Path filePath);
     Optional<Player> getById(String id);
+    List<PlayerLookup> getByIds(List<String> ids);
+    Optional<Player> getByRetroId(String retroId);
+    Optional<Player> getByBbrefId(String bbrefId);
     List<Player> getAll();
     List<Player> getPlayersPage(int page, int size);
+    PlayerPage getPlayersAfter(String cursor, int size);
+    PlayerSearchResult search(PlayerQuery query);
+    List<Player> searchByName(String query, int maxEdits, int limit);
+    PlayerStats getStats();
+    // A view that reads only the given retained snapshot, or the current one for null
+    IPlayerService atVersion(Long version);
+    long getSnapshotVersion();
+    long getContentHash();
+    // Null when the change feed is disabled
+    IPlayerChangeFeed getChangeFeed();
     void initFileWatching(Path testFilePath);
 }
\ No newline at end of file
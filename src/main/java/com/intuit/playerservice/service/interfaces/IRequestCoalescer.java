@@ -0,0 +1,11 @@
+package com.intuit.playerservice.service.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface IRequestCoalescer {
+    // Runs action unless a request with the same key is in flight, in which case its result is shared
+    <T> T execute(String key, Supplier<T> action);
+    // Non-blocking form for event loops: a follower gets the leader's future instead of waiting on it
+    <T> CompletableFuture<T> submit(String key, Supplier<T> action);
+}
@@ -0,0 +1,182 @@
+package com.intuit.playerservice.unitTest.controller;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.model.CachedResponse;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.service.PlayerService;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import com.intuit.playerservice.service.interfaces.IPlayerDatasets;
+import com.intuit.playerservice.service.interfaces.IPlayerResponseCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PlayerControllerTest {
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final String CBOR = "application/cbor";
+    private static final TypeReference<List<Player>> PLAYER_LIST = new TypeReference<>() { };
+
+    @Autowired
+    private MockMvc mvc;
+    @MockBean
+    private IPlayerDatasets datasets;
+    @MockBean
+    private IPlayerResponseCache responseCache;
+    private final List<Player> players = players(3);
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @BeforeEach
+    public void setUp() {
+        IPlayerRepository playerRepository = mock(IPlayerRepository.class);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players, 7));
+        PlayerService service = new PlayerService(playerRepository, mock(IFileWatcherService.class),
+            mock(ILogger.class));
+        when(datasets.getService(null)).thenReturn(service);
+        when(responseCache.isEnabled()).thenReturn(true);
+        when(responseCache.getById("p1")).thenReturn(
+            new CachedResponse("{\"playerID\":\"p1\"}".getBytes(StandardCharsets.UTF_8), "cached", 7, 0));
+    }
+
+    @Test
+    public void testGetByIdDecodesAsSmileAndCbor() throws Exception {
+        // Act
+        byte[] smileBody = mvc.perform(get("/api/players/p1").header(HttpHeaders.ACCEPT, SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+        byte[] cborBody = mvc.perform(get("/api/players/p1").header(HttpHeaders.ACCEPT, CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertEquals(players.get(1), smile.readValue(smileBody, Player.class));
+        assertEquals(players.get(1), cbor.readValue(cborBody, Player.class));
+    }
+
+    @Test
+    public void testBinaryAcceptBypassesResponseCache() throws Exception {
+        // Act & Assert: JSON, or no preference, is served pre-rendered
+        mvc.perform(get("/api/players/p1").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"playerID\":\"p1\"}", true));
+        mvc.perform(get("/api/players/p1").header(HttpHeaders.ACCEPT, "*/*")).andExpect(status().isOk());
+        verify(responseCache, times(2)).getById("p1");
+
+        // Act & Assert: a binary type ranked above JSON is rendered from the service
+        mvc.perform(get("/api/players/p1").header(HttpHeaders.ACCEPT, "application/json;q=0.5, " + SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(SMILE));
+        verify(responseCache, times(2)).getById("p1");
+    }
+
+    @Test
+    public void testAcceptQualityRanksStreamFormats() throws Exception {
+        // Act & Assert: the highest quality wins, and equal qualities keep the first listed type
+        assertEquals(CBOR, exportContentType(SMILE + ";q=0.4, " + CBOR + ";q=0.9"));
+        assertEquals(SMILE, exportContentType(SMILE + ", " + CBOR));
+        assertEquals(NDJSON, exportContentType(CBOR + ";q=0.2, application/json"));
+        // A wildcard ranked highest, or no usable Accept header, gets the default format
+        assertEquals(NDJSON, exportContentType("*/*;q=0.9, " + SMILE + ";q=0.5"));
+        assertEquals(NDJSON, exportContentType("application/*"));
+        assertEquals(NDJSON, exportContentType("not a media type"));
+    }
+
+    @Test
+    public void testExportContentTypesAndBodies() throws Exception {
+        // Act
+        MvcResult ndjson = stream(get("/api/players/export"));
+        MvcResult json = stream(get("/api/players/export?format=json"));
+        MvcResult smileList = stream(get("/api/players/export?format=SMILE"));
+        MvcResult cborList = stream(get("/api/players/export").header(HttpHeaders.ACCEPT, CBOR));
+
+        // Assert
+        assertEquals(NDJSON, ndjson.getResponse().getContentType());
+        assertEquals(players.size(), ndjson.getResponse().getContentAsString().trim().split("\n").length);
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, json.getResponse().getContentType());
+        assertEquals(players, new ObjectMapper().readValue(json.getResponse().getContentAsByteArray(), PLAYER_LIST));
+        assertEquals(SMILE, smileList.getResponse().getContentType());
+        assertEquals(players, smile.readValue(smileList.getResponse().getContentAsByteArray(), PLAYER_LIST));
+        assertEquals(CBOR, cborList.getResponse().getContentType());
+        assertEquals(players, cbor.readValue(cborList.getResponse().getContentAsByteArray(), PLAYER_LIST));
+        assertEquals("7", ndjson.getResponse().getHeader("X-Snapshot-Version"));
+    }
+
+    @Test
+    public void testBatchContentTypes() throws Exception {
+        // Act
+        MvcResult json = stream(post("/api/players/batch").contentType(MediaType.APPLICATION_JSON)
+            .content("[\"p2\",\"zz\"]"));
+        MvcResult binary = stream(post("/api/players/batch").contentType(MediaType.APPLICATION_JSON)
+            .content("[\"p2\",\"zz\"]").header(HttpHeaders.ACCEPT, SMILE));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, json.getResponse().getContentType());
+        assertEquals(SMILE, binary.getResponse().getContentType());
+        JsonNode lookups = smile.readTree(binary.getResponse().getContentAsByteArray());
+        assertEquals("p2", lookups.get(0).get("id").asText());
+        assertTrue(lookups.get(0).get("found").asBoolean());
+        assertFalse(lookups.get(1).get("found").asBoolean());
+        assertEquals(new ObjectMapper().readTree(json.getResponse().getContentAsByteArray()), lookups);
+    }
+
+    @Test
+    public void testUnknownFormatIsRejected() throws Exception {
+        // Act & Assert
+        mvc.perform(get("/api/players/export?format=xml")).andExpect(status().isBadRequest());
+        mvc.perform(post("/api/players/batch?format=xml").contentType(MediaType.APPLICATION_JSON).content("[\"p1\"]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private String exportContentType(String accept) throws Exception {
+        return stream(get("/api/players/export").header(HttpHeaders.ACCEPT, accept)).getResponse().getContentType();
+    }
+
+    // Streaming bodies are written asynchronously, so the result is read after the async dispatch
+    private MvcResult stream(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+    }
+
+    private static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player player = new Player();
+            player.setPlayerID("p" + i);
+            player.setNameFirst("First" + i);
+            player.setNameLast("Last" + i);
+            player.setBirthYear(1950 + i);
+            players.add(player);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,169 @@
+package com.intuit.playerservice.unitTest.controller;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.service.PlayerService;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import com.intuit.playerservice.service.interfaces.IPlayerDatasets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class ReactivePlayerControllerTest {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final TypeReference<List<Player>> PLAYER_LIST = new TypeReference<>() { };
+
+    @Autowired
+    private WebTestClient client;
+    @MockBean
+    private IPlayerDatasets datasets;
+    private final List<Player> players = players(3);
+    // Threads the service read its snapshot on
+    private final Set<String> lookupThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void setUp() {
+        IPlayerRepository playerRepository = mock(IPlayerRepository.class);
+        PlayerSnapshot snapshot = PlayerSnapshot.loaded(players, 7);
+        when(playerRepository.getSnapshot()).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread().getName());
+            return snapshot;
+        });
+        PlayerService service = new PlayerService(playerRepository, mock(IFileWatcherService.class),
+            mock(ILogger.class));
+        when(datasets.getService(null)).thenReturn(service);
+        when(datasets.getService("missing")).thenThrow(new NoSuchElementException("missing"));
+    }
+
+    @Test
+    public void testLookupStatusCodes() {
+        // Act & Assert
+        client.get().uri("/api/players/p1").exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("X-Snapshot-Version", "7")
+            .expectBody(Player.class).value(player -> assertEquals("p1", player.getPlayerID()));
+        client.get().uri("/api/players/unknown").exchange().expectStatus().isNoContent();
+        client.get().uri("/api/datasets/missing/players/p1").exchange().expectStatus().isNotFound();
+        client.get().uri("/api/players/p1?version=3").exchange()
+            .expectStatus().isEqualTo(410)
+            .expectHeader().valueEquals("X-Snapshot-Version", "7");
+        client.get().uri("/api/players/paged?page=1&size=0").exchange().expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testLookupsRunOffTheCallingThread() {
+        // Act
+        client.get().uri("/api/players/cursor?size=2").exchange().expectStatus().isOk();
+        client.get().uri("/api/players/stats").exchange().expectStatus().isOk();
+
+        // Assert
+        assertFalse(lookupThreads.isEmpty());
+        assertTrue(lookupThreads.stream().allMatch(name -> name.startsWith("boundedElastic")), lookupThreads::toString);
+    }
+
+    @Test
+    public void testExportStreamsNdjsonByDefault() throws IOException {
+        // Act
+        byte[] body = client.get().uri("/api/players/export").exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(NDJSON)
+            .expectBody().returnResult().getResponseBody();
+
+        // Assert
+        String[] lines = new String(body, StandardCharsets.UTF_8).trim().split("\n");
+        assertEquals(players.size(), lines.length);
+        assertEquals("p2", new ObjectMapper().readValue(lines[2], Player.class).getPlayerID());
+    }
+
+    @Test
+    public void testListNegotiatesSmile() throws IOException {
+        // Act
+        byte[] body = client.get().uri("/api/players").accept(SMILE).exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(SMILE)
+            .expectBody().returnResult().getResponseBody();
+
+        // Assert
+        List<Player> decoded = new ObjectMapper(new SmileFactory()).readValue(body, PLAYER_LIST);
+        assertEquals(players, decoded);
+    }
+
+    @Test
+    public void testListNegotiatesJsonArrayAndNdjson() {
+        // Act & Assert
+        client.get().uri("/api/players").accept(MediaType.APPLICATION_JSON).exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBodyList(Player.class).isEqualTo(players);
+        String ndjson = client.get().uri("/api/players/paged?page=1&size=2").accept(NDJSON).exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(NDJSON)
+            .expectBody(String.class).returnResult().getResponseBody();
+        assertEquals(2, ndjson.trim().split("\n").length);
+    }
+
+    @Test
+    public void testBatchStreamsLookupsInRequestOrder() {
+        // Act & Assert
+        client.post().uri("/api/players/batch").contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(List.of("p2", "zz")).exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$[0].id").isEqualTo("p2")
+            .jsonPath("$[0].found").isEqualTo(true)
+            .jsonPath("$[1].found").isEqualTo(false);
+    }
+
+    @Test
+    public void testExportFormatParameter() throws IOException {
+        // Act
+        byte[] smile = client.get().uri("/api/players/export?format=smile").exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(SMILE)
+            .expectBody().returnResult().getResponseBody();
+
+        // Assert
+        assertEquals(players, new ObjectMapper(new SmileFactory()).readValue(smile, PLAYER_LIST));
+        client.get().uri("/api/players/export?format=cbor").exchange().expectStatus().isEqualTo(406);
+        client.get().uri("/api/players/export?format=xml").exchange().expectStatus().isBadRequest();
+    }
+
+    private static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player player = new Player();
+            player.setPlayerID("p" + i);
+            player.setNameFirst("First" + i);
+            player.setNameLast("Last" + i);
+            player.setBirthYear(1950 + i);
+            players.add(player);
+        }
+        return players;
+    }
+}
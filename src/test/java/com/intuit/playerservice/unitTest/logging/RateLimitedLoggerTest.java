@@ -0,0 +1,92 @@
+package com.intuit.playerservice.unitTest.logging;
+
+import static org.mockito.Mockito.*;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.logging.RateLimitedLogger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class RateLimitedLoggerTest {
+    private ILogger delegate;
+    private AtomicLong clock;
+    private RateLimitedLogger logger;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(ILogger.class);
+        when(delegate.isInfoEnabled()).thenReturn(true);
+        when(delegate.isWarnEnabled()).thenReturn(true);
+        clock = new AtomicLong();
+        logger = new RateLimitedLogger(delegate, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    public void testOneMessagePerIntervalReportsDroppedCount() {
+        // Act
+        logger.warn("Request failed: {}", "first");
+        logger.warn("Request failed: {}", "second");
+        logger.warn("Request failed: {}", "third");
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        logger.warn("Request failed: {}", "fourth");
+        logger.warn("Request failed: {}", "fifth");
+
+        // Assert
+        verify(delegate).warn("Request failed: {}", "first");
+        verify(delegate).warn("Request failed: {} (2 similar messages suppressed)", "fourth");
+        verify(delegate, times(2)).warn(anyString(), any(Object[].class));
+    }
+
+    @Test
+    public void testErrorKeepsThrowable() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        // Act
+        logger.error("Request failed", failure);
+        logger.error("Request failed", failure);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        logger.error("Request failed", failure);
+
+        // Assert
+        verify(delegate).error("Request failed", failure);
+        verify(delegate).error("Request failed (1 similar messages suppressed)", failure);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDisabledLevelNeitherFormatsNorConsumesInterval() {
+        // Arrange
+        when(delegate.isDebugEnabled()).thenReturn(false);
+        Supplier<String> message = mock(Supplier.class);
+
+        // Act
+        logger.debug(message);
+        logger.info("Loaded {} rows", 42);
+
+        // Assert
+        verify(message, never()).get();
+        verify(delegate).info("Loaded {} rows", 42);
+    }
+
+    @Test
+    public void testDisabledWarnIsNotFormatted() {
+        // Arrange
+        ILogger plain = mock(ILogger.class, CALLS_REAL_METHODS);
+        when(plain.isWarnEnabled()).thenReturn(false);
+        when(delegate.isWarnEnabled()).thenReturn(false);
+
+        // Act
+        plain.warn("Reload of {} failed", "player.csv");
+        logger.warn("Reload of {} failed", "player.csv");
+        when(delegate.isWarnEnabled()).thenReturn(true);
+        logger.warn("Reload of {} failed", "other.csv");
+
+        // Assert
+        verify(plain, never()).warn(anyString());
+        verify(delegate).warn("Reload of {} failed", "other.csv");
+    }
+}
@@ -0,0 +1,103 @@
+package com.intuit.playerservice.unitTest.metrics;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.metrics.FileWatcherMetrics;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.metrics.PlayerSnapshotMetrics;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class PlayerMetricsTest {
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void testLookupsCountedByIndexAndResult() {
+        // Arrange
+        PlayerMetrics metrics = new PlayerMetrics(registry);
+
+        // Act
+        metrics.recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, true);
+        metrics.recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, true);
+        metrics.recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, false);
+        metrics.recordLookup(IPlayerMetrics.Lookup.BBREF_ID, false);
+
+        // Assert
+        assertEquals(2, registry.get("player.lookups").tags("index", "player-id", "result", "hit").counter().count());
+        assertEquals(1, registry.get("player.lookups").tags("index", "player-id", "result", "miss").counter().count());
+        assertEquals(1, registry.get("player.lookups").tags("index", "bbref-id", "result", "miss").counter().count());
+        assertEquals(0, registry.get("player.lookups").tags("index", "retro-id", "result", "hit").counter().count());
+    }
+
+    @Test
+    public void testLoadsTimedByModeAndFailuresCounted() {
+        // Arrange
+        PlayerMetrics metrics = new PlayerMetrics(registry);
+
+        // Act
+        metrics.recordLoad("full", TimeUnit.MILLISECONDS.toNanos(120), 19370);
+        metrics.recordLoad("incremental", TimeUnit.MILLISECONDS.toNanos(15), 19371);
+        metrics.recordLoadFailure("incremental", new IOException("bad row"));
+
+        // Assert
+        assertEquals(120, registry.get("player.load").tag("mode", "full").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get("player.load").tag("mode", "incremental").timer().count());
+        assertEquals(2, registry.get("player.load.rows").summary().count());
+        assertEquals(1, registry.get("player.load.failures")
+            .tags("mode", "incremental", "exception", "IOException").counter().count());
+    }
+
+    @Test
+    public void testSnapshotGaugesFollowCurrentSnapshot() {
+        // Arrange
+        IPlayerRepository repository = mock(IPlayerRepository.class);
+        when(repository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(List.of(new Player(), new Player()), 7));
+        new PlayerSnapshotMetrics(repository).bindTo(registry);
+
+        // Act
+        double version = registry.get("player.snapshot.version").gauge().value();
+        double rows = registry.get("player.snapshot.rows").gauge().value();
+        double loaded = registry.get("player.snapshot.status").tag("status", "LOADED").gauge().value();
+        when(repository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(List.of(new Player()), 8).withLoadError("boom"));
+
+        // Assert
+        assertEquals(7, version);
+        assertEquals(2, rows);
+        assertEquals(1, loaded);
+        assertEquals(0, registry.get("player.snapshot.status").tag("status", "LOADED").gauge().value());
+        assertEquals(1, registry.get("player.snapshot.status").tag("status", "STALE").gauge().value());
+        assertTrue(registry.get("player.snapshot.age").timeGauge().value(TimeUnit.SECONDS) >= 0);
+    }
+
+    @Test
+    public void testFileWatcherCountersReadFromService() {
+        // Arrange
+        IFileWatcherService fileWatcherService = mock(IFileWatcherService.class);
+        when(fileWatcherService.getEventsReceived()).thenReturn(12L);
+        when(fileWatcherService.getEventsCoalesced()).thenReturn(9L);
+        when(fileWatcherService.getChangesDispatched()).thenReturn(3L);
+
+        // Act
+        new FileWatcherMetrics(fileWatcherService).bindTo(registry);
+
+        // Assert
+        assertEquals(12, registry.get("player.watcher.events").functionCounter().count());
+        assertEquals(9, registry.get("player.watcher.events.coalesced").functionCounter().count());
+        assertEquals(3, registry.get("player.watcher.reloads").functionCounter().count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+public class BinarySnapshotStoreTest {
+    @TempDir
+    Path tempDir;
+    private Path csvPath;
+    private Path snapshotPath;
+    private BinarySnapshotStore store;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        csvPath = Files.copy(Paths.get("src/main/resources/player.csv"), tempDir.resolve("player.csv"));
+        snapshotPath = tempDir.resolve("cache/player.snapshot");
+        store = new BinarySnapshotStore(snapshotPath.toString());
+    }
+
+    @Test
+    public void testRoundTripMatchesCsv() throws IOException {
+        // Arrange
+        List<Player> players = new ParallelPlayerCsvLoader().load(csvPath);
+
+        // Act
+        store.write(csvPath, players);
+        Optional<List<Player>> restored = store.read(csvPath);
+
+        // Assert
+        assertTrue(restored.isPresent());
+        assertEquals(players, restored.get());
+        assertTrue(Files.size(snapshotPath) < Files.size(csvPath));
+    }
+
+    @Test
+    public void testStaleSnapshotIsIgnored() throws IOException {
+        // Arrange
+        store.write(csvPath, new ParallelPlayerCsvLoader().load(csvPath));
+
+        // Act
+        Files.writeString(csvPath, "newguy01,2001,1,1,USA,,,,,,,,,,,,,,,,,,,\n", StandardOpenOption.APPEND);
+
+        // Assert
+        assertTrue(store.read(csvPath).isEmpty());
+    }
+
+    @Test
+    public void testCorruptSnapshotIsIgnored() throws IOException {
+        // Arrange
+        store.write(csvPath, new ParallelPlayerCsvLoader().load(csvPath));
+
+        // Act: flip a byte in the payload
+        try (RandomAccessFile file = new RandomAccessFile(snapshotPath.toFile(), "rw")) {
+            file.seek(file.length() / 2);
+            int b = file.read();
+            file.seek(file.length() / 2);
+            file.write(b ^ 0xFF);
+        }
+
+        // Assert
+        assertTrue(store.read(csvPath).isEmpty());
+    }
+
+    @Test
+    public void testDisabledStoreDoesNothing() throws IOException {
+        // Arrange
+        BinarySnapshotStore disabled = BinarySnapshotStore.disabled();
+
+        // Act
+        disabled.write(csvPath, List.of(new Player()));
+
+        // Assert
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.read(csvPath).isEmpty());
+    }
+
+}
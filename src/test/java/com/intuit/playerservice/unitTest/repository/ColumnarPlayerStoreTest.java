@@ -0,0 +1,104 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.store.ColumnarPlayerStore;
+import com.intuit.playerservice.repository.store.ListPlayerStore;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ColumnarPlayerStoreTest {
+    private static List<Player> players;
+
+    @BeforeAll
+    public static void loadRoster() throws IOException {
+        players = new ParallelPlayerCsvLoader().load(Paths.get("src/main/resources/player.csv"));
+    }
+
+    @Test
+    public void testRowsRoundTrip() {
+        // Act
+        ColumnarPlayerStore store = new ColumnarPlayerStore(players);
+
+        // Assert
+        assertEquals(players.size(), store.size());
+        assertEquals(players, new ArrayList<>(store.asList()));
+    }
+
+    @Test
+    public void testLookupsMatchListStore() {
+        // Arrange
+        ListPlayerStore listStore = new ListPlayerStore(players);
+
+        // Act
+        ColumnarPlayerStore store = new ColumnarPlayerStore(players);
+
+        // Assert
+        for (Player player : players) {
+            assertEquals(listStore.getById(player.getPlayerID()), store.getById(player.getPlayerID()));
+            assertEquals(listStore.getByRetroId(player.getRetroID()), store.getByRetroId(player.getRetroID()));
+            assertEquals(listStore.getByBbrefId(player.getBbrefID()), store.getByBbrefId(player.getBbrefID()));
+        }
+        assertTrue(store.getById("missing").isEmpty());
+        assertTrue(store.getById(null).isEmpty());
+    }
+
+    @Test
+    public void testNullsAndFractionsSurvive() {
+        // Arrange
+        Player player = new Player();
+        player.setPlayerID("a01");
+        player.setWeight(180.5);
+        player.setDeathYear(null);
+        Player other = new Player();
+        other.setPlayerID("b01");
+        other.setDeathYear(-5);
+
+        // Act
+        ColumnarPlayerStore store = new ColumnarPlayerStore(List.of(player, other));
+
+        // Assert
+        assertEquals(player, store.getById("a01").get());
+        assertEquals(other, store.getById("b01").get());
+    }
+
+    @Test
+    public void testIdsAndContentHashReadFromColumns() {
+        // Arrange
+        List<Player> reordered = new ArrayList<>(players);
+        Collections.swap(reordered, 0, 1);
+        List<Player> edited = new ArrayList<>(players);
+        Player renamed = new ColumnarPlayerStore(players).get(2);
+        renamed.setNameGiven("Zoë " + renamed.getNameGiven());
+        edited.set(2, renamed);
+
+        // Act
+        ColumnarPlayerStore store = new ColumnarPlayerStore(players);
+
+        // Assert
+        for (int row = 0; row < players.size(); row++) {
+            assertEquals(players.get(row).getPlayerID(), store.getPlayerId(row));
+        }
+        assertEquals(store.getContentHash(), new ColumnarPlayerStore(new ArrayList<>(players)).getContentHash());
+        assertNotEquals(store.getContentHash(), new ColumnarPlayerStore(reordered).getContentHash());
+        assertNotEquals(store.getContentHash(), new ColumnarPlayerStore(edited).getContentHash());
+    }
+
+    @Test
+    public void testHeapFootprintComparedToListStore() {
+        // Act: retained size of the whole object graph, measured with JOL
+        long listBytes = GraphLayout.parseInstance(new ListPlayerStore(players)).totalSize();
+        long columnarBytes = GraphLayout.parseInstance(new ColumnarPlayerStore(players)).totalSize();
+
+        // Assert
+        assertTrue(columnarBytes * 3 < listBytes, "columnar store should need less than a third of the heap");
+    }
+}
@@ -0,0 +1,197 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.OffsetPlayerRepository;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.loader.PlayerCsvFile;
+import com.intuit.playerservice.repository.store.ListPlayerStore;
+import com.intuit.playerservice.repository.store.OffsetPlayerStore;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jol.info.GraphLayout;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+public class OffsetPlayerStoreTest {
+    private static final Path ROSTER = Paths.get("src/main/resources/player.csv");
+    private static final String HEADER = "playerID,nameFirst,weight,retroID,bbrefID\n";
+
+    private static List<Player> players;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void loadRoster() throws IOException {
+        players = new ParallelPlayerCsvLoader().load(ROSTER);
+    }
+
+    private static Cache<Long, Player> cache(long maxBytes) {
+        return Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Long row, Player player) -> OffsetPlayerStore.weigh(player))
+            .recordStats()
+            .executor(Runnable::run)
+            .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testRowsRoundTrip(boolean mapped) throws IOException {
+        // Act
+        OffsetPlayerStore store = OffsetPlayerStore.index(PlayerCsvFile.open(ROSTER, mapped), cache(1 << 20), 1);
+
+        // Assert
+        assertEquals(players.size(), store.size());
+        assertEquals(players, new ArrayList<>(store.asList()));
+        assertEquals(players.subList(100, 150), store.asList().subList(100, 150));
+    }
+
+    @Test
+    public void testLookupsMatchListStore() throws IOException {
+        // Arrange
+        ListPlayerStore listStore = new ListPlayerStore(players);
+
+        // Act
+        OffsetPlayerStore store = OffsetPlayerStore.index(PlayerCsvFile.open(ROSTER), cache(1 << 20), 1);
+
+        // Assert
+        for (Player player : players) {
+            assertEquals(listStore.getById(player.getPlayerID()), store.getById(player.getPlayerID()));
+            assertEquals(listStore.getByRetroId(player.getRetroID()), store.getByRetroId(player.getRetroID()));
+            assertEquals(listStore.getByBbrefId(player.getBbrefID()), store.getByBbrefId(player.getBbrefID()));
+        }
+        assertTrue(store.getById("missing").isEmpty());
+        assertTrue(store.getById(null).isEmpty());
+        assertTrue(store.getByRetroId("").isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testQuotedFieldsCrlfBlankLinesAndDuplicateIds(boolean mapped) throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("players.csv");
+        Files.writeString(csv, HEADER + "a01,\"Smith, Jr.\",180.5,r1,b1\r\n\r\nb01,Bo,200,r2,\nb01,Dup,1,r3,b3");
+
+        // Act
+        OffsetPlayerStore store = OffsetPlayerStore.index(PlayerCsvFile.open(csv, mapped), cache(1 << 20), 1);
+
+        // Assert
+        assertEquals(3, store.size());
+        assertEquals("Smith, Jr.", store.getById("a01").get().getNameFirst());
+        assertEquals(180.5, store.getById("a01").get().getWeight());
+        assertEquals("Bo", store.getById("b01").get().getNameFirst());
+        assertEquals("Dup", store.getByRetroId("r3").get().getNameFirst());
+        assertTrue(store.getByBbrefId("b2").isEmpty());
+        assertEquals("b01", store.getPlayerId(2));
+    }
+
+    @Test
+    public void testCacheIsBoundedByWeight() throws IOException {
+        // Arrange
+        Cache<Long, Player> cache = cache(64 * 1024);
+        OffsetPlayerStore store = OffsetPlayerStore.index(PlayerCsvFile.open(ROSTER), cache, 1);
+
+        // Act
+        for (int row = 0; row < 1000; row++) {
+            store.asList().get(row);
+        }
+        cache.cleanUp();
+
+        // Assert
+        long weight = cache.policy().eviction().get().weightedSize().getAsLong();
+        assertTrue(weight <= 64 * 1024, "cached rows should stay within the byte bound: " + weight);
+        assertTrue(cache.stats().evictionCount() > 0);
+        assertEquals(1000, cache.stats().missCount());
+    }
+
+    @Test
+    public void testWeightEstimateIsCloseToRetainedSize() {
+        // Act
+        long estimated = 0;
+        long retained = 0;
+        for (Player player : players.subList(0, 1000)) {
+            estimated += OffsetPlayerStore.weigh(player);
+            retained += GraphLayout.parseInstance(player).totalSize();
+        }
+
+        // Assert
+        assertTrue(estimated > retained / 2 && estimated < retained * 2,
+            "estimate " + estimated + " should be within a factor of two of " + retained);
+    }
+
+    @Test
+    public void testRowRewrittenInPlaceIsDetected() throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("players.csv");
+        Files.writeString(csv, HEADER + "a01,Al,180,r1,b1\nb01,Bo,200,r2,b2\n");
+        OffsetPlayerStore store = OffsetPlayerStore.index(PlayerCsvFile.open(csv), cache(1 << 20), 1);
+
+        // Act
+        Files.writeString(csv, HEADER + "c01,Al,180,r1,b1\nb01,Bo,200,r2,b2\n");
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> store.getById("a01"));
+        assertEquals("Bo", store.getById("b01").get().getNameFirst());
+    }
+
+    @Test
+    public void testContentHashIsChecksumOfDataRows() throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("players.csv");
+        Path renamed = tempDir.resolve("renamed.csv");
+        Files.writeString(csv, HEADER + "a01,Al,180,r1,b1\nb01,Bo,200,r2,b2\n");
+        Files.writeString(renamed, HEADER + "a01,Al,180,r1,b1\nb01,Bo,200,r2,b2\n");
+        CRC32C expected = new CRC32C();
+        expected.update("a01,Al,180,r1,b1\nb01,Bo,200,r2,b2\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        OffsetPlayerStore store = OffsetPlayerStore.index(PlayerCsvFile.open(csv), cache(1 << 20), 1);
+        OffsetPlayerStore mapped = OffsetPlayerStore.index(PlayerCsvFile.open(renamed, true), cache(1 << 20), 2);
+        Files.writeString(csv, HEADER + "a01,Al,181,r1,b1\nb01,Bo,200,r2,b2\n");
+        OffsetPlayerStore changed = OffsetPlayerStore.index(PlayerCsvFile.open(csv), cache(1 << 20), 3);
+
+        // Assert
+        assertEquals(expected.getValue(), store.getContentHash());
+        assertEquals(store.getContentHash(), mapped.getContentHash());
+        assertNotEquals(store.getContentHash(), changed.getContentHash());
+    }
+
+    @Test
+    public void testReloadServesNewRowsAndDropsOldGeneration() throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("players.csv");
+        Files.writeString(csv, HEADER + "a01,Al,180,r1,b1\n");
+        OffsetPlayerRepository repository = new OffsetPlayerRepository(mock(ILogger.class), 1 << 20, true,
+            PlayerMetrics.disabled(), "default");
+        repository.loadPlayers(csv);
+        assertEquals("Al", repository.getById("a01").get().getNameFirst());
+
+        // Act
+        Files.writeString(csv, HEADER + "a01,Alan,180,r1,b1\nb01,Bo,200,r2,b2\n");
+        repository.loadPlayers(csv);
+
+        // Assert
+        assertEquals("Alan", repository.getById("a01").get().getNameFirst());
+        assertEquals(2, repository.getSnapshot().size());
+        assertEquals(List.of("a01", "b01"), repository.getSnapshot().getPageAfter(null, 10).stream()
+            .map(Player::getPlayerID).toList());
+        assertTrue(repository.getRowCache().asMap().keySet().stream().allMatch(key -> (key >>> 32) == 2));
+    }
+}
@@ -0,0 +1,100 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.loader.JacksonPlayerCsvLoader;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public class ParallelPlayerCsvLoaderTest {
+    private static final Path BUNDLED_CSV = Paths.get("src/main/resources/player.csv");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testMatchesJacksonLoaderOnBundledRoster() throws IOException {
+        // Arrange
+        List<Player> expected = new JacksonPlayerCsvLoader().load(BUNDLED_CSV);
+
+        // Act
+        List<Player> players = new ParallelPlayerCsvLoader().load(BUNDLED_CSV);
+
+        // Assert
+        assertEquals(expected.size(), players.size());
+        assertEquals(expected, players);
+    }
+
+    @Test
+    public void testSmallChunksPreserveRowOrder() throws IOException {
+        // Arrange: a tiny chunk size forces hundreds of chunks
+        List<Player> expected = new JacksonPlayerCsvLoader().load(BUNDLED_CSV);
+
+        // Act
+        List<Player> players = new ParallelPlayerCsvLoader(4096).load(BUNDLED_CSV);
+
+        // Assert
+        assertEquals(expected, players);
+    }
+
+    @Test
+    public void testQuotedFieldsCrlfAndMissingColumns() throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("quoted.csv");
+        Files.writeString(csv, "playerID,nameGiven,deathYear,weight\r\n"
+            + "a01,\"Smith, \"\"Jr\"\"\",1950,180.5\r\n"
+            + "\r\n"
+            + "b01,Bob,,\r\n"
+            + "c01");
+
+        // Act
+        List<Player> players = new ParallelPlayerCsvLoader().load(csv);
+
+        // Assert
+        assertEquals(3, players.size());
+        assertEquals("Smith, \"Jr\"", players.get(0).getNameGiven());
+        assertEquals(1950, players.get(0).getDeathYear());
+        assertEquals(180.5, players.get(0).getWeight());
+        assertEquals("Bob", players.get(1).getNameGiven());
+        assertNull(players.get(1).getDeathYear());
+        assertEquals(0.0, players.get(1).getWeight());
+        assertEquals("c01", players.get(2).getPlayerID());
+    }
+
+    @Test
+    public void testUnknownColumnIsRejectedLikeJackson() throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("unknown.csv");
+        Files.writeString(csv, "playerID,shoeSize\na01,12\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> new JacksonPlayerCsvLoader().load(csv));
+        assertThrows(IOException.class, () -> new ParallelPlayerCsvLoader().load(csv));
+    }
+
+    @Test
+    public void testMalformedNumberIsReportedAsIOException() throws IOException {
+        // Arrange
+        Path csv = tempDir.resolve("malformed.csv");
+        Files.writeString(csv, "playerID,birthYear\na01,nineteen\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> new ParallelPlayerCsvLoader().load(csv));
+    }
+
+    @Test
+    public void testEmptyFileLoadsNoPlayers() throws IOException {
+        // Arrange
+        Path csv = Files.createFile(tempDir.resolve("empty.csv"));
+
+        // Act & Assert
+        assertTrue(new ParallelPlayerCsvLoader().load(csv).isEmpty());
+    }
+}
@@ -0,0 +1,169 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.index.PlayerNameIndex;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PlayerNameIndexTest {
+    private static List<Player> roster;
+    private static PlayerNameIndex rosterIndex;
+
+    @BeforeAll
+    public static void loadRoster() throws IOException {
+        roster = new ParallelPlayerCsvLoader().load(Paths.get("src/main/resources/player.csv"));
+        rosterIndex = new PlayerNameIndex(roster);
+    }
+
+    @Test
+    public void testPrefixMatchesEveryNameColumn() {
+        // Act
+        List<String> byLast = ids(rosterIndex.search("griff", 0, 50));
+        List<String> byGiven = ids(rosterIndex.search("GEORGE kenn", 0, 50));
+
+        // Assert
+        assertTrue(byLast.containsAll(List.of("griffke01", "griffke02")));
+        assertTrue(byGiven.containsAll(List.of("griffke01", "griffke02")));
+    }
+
+    @Test
+    public void testShorterCompletionsRankFirst() {
+        // Act
+        List<String> ids = ids(rosterIndex.search("griffey", 0, 2));
+
+        // Assert
+        assertEquals(List.of("griffke01", "griffke02"), ids);
+    }
+
+    @Test
+    public void testEveryWordMustMatch() {
+        // Act
+        List<Player> players = rows(rosterIndex.search("ken griffey", 0, 50));
+
+        // Assert
+        assertEquals(2, players.size());
+        assertTrue(players.stream().allMatch(p -> "Griffey".equals(p.getNameLast())));
+    }
+
+    @Test
+    public void testAccentAndCaseInsensitive() {
+        // Arrange
+        PlayerNameIndex index = new PlayerNameIndex(List.of(
+            player("pena01", "Tony", "Peña"), player("oneil01", "Paul", "O'Neill"), player("sanch01", "José", "Sánchez")));
+
+        // Act & Assert
+        assertEquals(List.of(0), index.search("PENA", 0, 10));
+        assertEquals(List.of(0), index.search("peñ", 0, 10));
+        assertEquals(List.of(1), index.search("oneil", 0, 10));
+        assertEquals(List.of(1), index.search("O'Nei", 0, 10));
+        assertEquals(List.of(2), index.search("jose sanch", 0, 10));
+    }
+
+    @Test
+    public void testEditDistanceFindsTyposClosestFirst() {
+        // Act
+        List<String> exact = ids(rosterIndex.search("grifey", 0, 10));
+        List<String> fuzzy = ids(rosterIndex.search("grifey", 1, 10));
+        List<String> twoTypos = ids(rosterIndex.search("grufey ken", 2, 10));
+
+        // Assert
+        assertTrue(exact.isEmpty());
+        assertTrue(fuzzy.containsAll(List.of("griffke01", "griffke02")));
+        assertTrue(twoTypos.containsAll(List.of("griffke01", "griffke02")));
+    }
+
+    @Test
+    public void testExactPrefixRanksAheadOfFuzzyMatches() {
+        // Arrange
+        PlayerNameIndex index = new PlayerNameIndex(List.of(player("a", "Bob", "Smyth"), player("b", "Bob", "Smith")));
+
+        // Act
+        List<Integer> rows = index.search("smit", 1, 10);
+
+        // Assert
+        assertEquals(List.of(1, 0), rows);
+    }
+
+    @Test
+    public void testShorterCompletionsRankFirstAcrossMatchesAtOneDistance() {
+        // Arrange: "gxif" is one edit from both "gaif" and "gif", and the trie walk reaches "gaif" first
+        PlayerNameIndex index = new PlayerNameIndex(List.of(
+            player("a", "Al", "Gaiffithson"), player("b", "Bo", "Gift")));
+
+        // Act
+        List<Integer> rows = index.search("gxif", 1, 10);
+
+        // Assert
+        assertEquals(List.of(1, 0), rows);
+    }
+
+    @Test
+    public void testEveryLastNamePrefixFindsAMatchingPlayer() {
+        // Arrange: 1, 2 and 4 letter prefixes of every last name, as a client types them
+        List<String> prefixes = roster.stream()
+            .map(Player::getNameLast)
+            .filter(name -> name != null && !name.isEmpty())
+            .flatMap(name -> Arrays.stream(new String[] { name.substring(0, 1),
+                name.substring(0, Math.min(2, name.length())), name.substring(0, Math.min(4, name.length())) }))
+            .distinct()
+            .collect(Collectors.toList());
+
+        // Act & Assert
+        for (String prefix : prefixes) {
+            List<Integer> rows = rosterIndex.search(prefix, 0, 10);
+            assertFalse(rows.isEmpty(), prefix);
+            assertTrue(rows.size() <= 10, prefix);
+        }
+        assertFalse(rosterIndex.search("Aaron", 1, 10).isEmpty());
+    }
+
+    @Test
+    public void testPatchedIndexMatchesRebuild() {
+        // Arrange: rename a few players in place and append one
+        List<Player> edited = new ArrayList<>(roster);
+        int[] changed = { 0, 5000, 12000, roster.size() };
+        edited.set(0, player(roster.get(0).getPlayerID(), "Zebulon", roster.get(0).getNameLast()));
+        edited.set(5000, player(roster.get(5000).getPlayerID(), "Griffin", "Quixotic"));
+        edited.set(12000, player(roster.get(12000).getPlayerID(), null, null));
+        edited.add(player("newbie01", "Ken", "Griffey"));
+
+        // Act
+        PlayerNameIndex patched = rosterIndex.withChanges(edited, changed);
+
+        // Assert
+        PlayerNameIndex rebuilt = new PlayerNameIndex(edited);
+        for (String query : new String[] { "zeb", "quix", "griff", "ken griffey", roster.get(0).getNameFirst(),
+                roster.get(5000).getNameLast(), roster.get(12000).getNameLast(), "aaron" }) {
+            for (int edits = 0; edits <= PlayerNameIndex.MAX_EDITS; edits++) {
+                assertEquals(rebuilt.search(query, edits, 100), patched.search(query, edits, 100), query + "~" + edits);
+            }
+        }
+        assertEquals(List.of(5000), patched.search("quixotic", 0, 10));
+        assertTrue(patched.search("ken griffey", 0, 10).contains(roster.size()));
+    }
+
+    private static Player player(String id, String first, String last) {
+        Player player = new Player();
+        player.setPlayerID(id);
+        player.setNameFirst(first);
+        player.setNameLast(last);
+        return player;
+    }
+
+    private static List<Player> rows(List<Integer> rows) {
+        return rows.stream().map(roster::get).collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<Integer> rows) {
+        return rows(rows).stream().map(Player::getPlayerID).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,303 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.PlayerRepository;
+import com.intuit.playerservice.repository.loader.JacksonPlayerCsvLoader;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.snapshot.BinarySnapshotStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class PlayerRepositoryTest {
+    @TempDir
+    Path tempDir;
+    private PlayerRepository playerRepository;
+    private Path csvPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        playerRepository = new PlayerRepository(mock(ILogger.class));
+        csvPath = tempDir.resolve("players.csv");
+        Files.write(csvPath, ("playerID,birthYear,retroID,bbrefID\n"
+            + "aaronha01,1934,aaroh101,aaronha01\n"
+            + "ruthba01,1895,ruthb101,ruthba01\n"
+            + "nobody01,1900,,\n"
+            + "aaronha01,1999,dupe0001,dupe01\n").getBytes());
+    }
+
+    @Test
+    public void testGetByIdUsesIndex() throws IOException {
+        // Act
+        playerRepository.loadPlayers(csvPath);
+
+        // Assert
+        Optional<Player> player = playerRepository.getById("ruthba01");
+        assertTrue(player.isPresent());
+        assertEquals(1895, player.get().getBirthYear());
+        assertTrue(playerRepository.getById("missing").isEmpty());
+    }
+
+    @Test
+    public void testGetByIdKeepsFirstDuplicate() throws IOException {
+        // Act
+        playerRepository.loadPlayers(csvPath);
+
+        // Assert: the first row wins, as with the previous linear scan
+        assertEquals(1934, playerRepository.getById("aaronha01").get().getBirthYear());
+    }
+
+    @Test
+    public void testGetByIdsKeepsRequestOrder() throws IOException {
+        // Act
+        playerRepository.loadPlayers(csvPath);
+        List<Optional<Player>> players = playerRepository.getByIds(
+            Arrays.asList("ruthba01", "missing", null, "aaronha01", "ruthba01"));
+
+        // Assert
+        assertEquals(5, players.size());
+        assertEquals(1895, players.get(0).get().getBirthYear());
+        assertTrue(players.get(1).isEmpty());
+        assertTrue(players.get(2).isEmpty());
+        assertEquals(1934, players.get(3).get().getBirthYear());
+        assertSame(players.get(0).get(), players.get(4).get());
+    }
+
+    @Test
+    public void testLoadsAndFailuresRecordedInMetrics() throws IOException {
+        // Arrange
+        IPlayerMetrics metrics = mock(IPlayerMetrics.class);
+        playerRepository = new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(),
+            BinarySnapshotStore.disabled(), false, metrics);
+
+        // Act
+        playerRepository.loadPlayers(csvPath);
+        assertThrows(IOException.class, () -> playerRepository.loadPlayers(tempDir.resolve("missing.csv")));
+
+        // Assert
+        verify(metrics).recordLoad(eq("full"), anyLong(), eq(4));
+        verify(metrics).recordLoadFailure(eq("full"), any(IOException.class));
+    }
+
+    @Test
+    public void testGetByAlternateIds() throws IOException {
+        // Act
+        playerRepository.loadPlayers(csvPath);
+
+        // Assert
+        assertEquals("ruthba01", playerRepository.getByRetroId("ruthb101").get().getPlayerID());
+        assertEquals("aaronha01", playerRepository.getByBbrefId("aaronha01").get().getPlayerID());
+        assertTrue(playerRepository.getByRetroId("").isEmpty());
+    }
+
+    @Test
+    public void testReloadReplacesIndex() throws IOException {
+        // Arrange
+        playerRepository.loadPlayers(csvPath);
+        Files.write(csvPath, "playerID,birthYear\nnewguy01,2001\n".getBytes());
+
+        // Act
+        playerRepository.loadPlayers(csvPath);
+
+        // Assert
+        assertTrue(playerRepository.getById("ruthba01").isEmpty());
+        assertTrue(playerRepository.getById("newguy01").isPresent());
+        assertEquals(1, playerRepository.getAll().size());
+    }
+
+    @Test
+    public void testIncrementalReloadReusesUnchangedRows() throws IOException {
+        // Arrange
+        PlayerRepository incremental = new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(), true);
+        Files.write(csvPath, roster("ruthba01,1895,ruthb101"));
+        incremental.loadPlayers(csvPath);
+        Player aaron = incremental.getById("aaronha01").get();
+        Player ruth = incremental.getById("ruthba01").get();
+
+        // Act: change one row, drop one, add one
+        Files.write(csvPath, ("playerID,birthYear,retroID\n"
+            + "aaronha01,1934,aaroh101\n"
+            + "ruthba01,1896,ruthb102\n"
+            + "mayswi01,1931,maysw101\n").getBytes());
+        incremental.loadPlayers(csvPath);
+
+        // Assert
+        assertSame(aaron, incremental.getById("aaronha01").get());
+        assertNotSame(ruth, incremental.getById("ruthba01").get());
+        assertEquals(1896, incremental.getById("ruthba01").get().getBirthYear());
+        assertEquals("ruthba01", incremental.getByRetroId("ruthb102").get().getPlayerID());
+        assertTrue(incremental.getByRetroId("ruthb101").isEmpty());
+        assertTrue(incremental.getById("gehrilo01").isEmpty());
+        assertEquals("mayswi01", incremental.getByRetroId("maysw101").get().getPlayerID());
+        assertEquals(List.of("aaronha01", "ruthba01", "mayswi01"),
+            incremental.getAll().stream().map(Player::getPlayerID).toList());
+    }
+
+    @Test
+    public void testIncrementalReloadWithJacksonLoaderSharesEqualRows() throws IOException {
+        // Arrange
+        PlayerRepository incremental = new PlayerRepository(mock(ILogger.class), new JacksonPlayerCsvLoader(), true);
+        Files.write(csvPath, roster("ruthba01,1895,ruthb101"));
+        incremental.loadPlayers(csvPath);
+        Player aaron = incremental.getById("aaronha01").get();
+
+        // Act
+        Files.write(csvPath, roster("ruthba01,1896,ruthb101"));
+        incremental.loadPlayers(csvPath);
+
+        // Assert
+        assertSame(aaron, incremental.getById("aaronha01").get());
+        assertEquals(1896, incremental.getById("ruthba01").get().getBirthYear());
+    }
+
+    @Test
+    public void testIncrementalReloadReparsesRowsWhenHeaderChanges() throws IOException {
+        // Arrange
+        PlayerRepository incremental = new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(), true);
+        Files.write(csvPath, "playerID,birthYear\naaronha01,1934\n".getBytes());
+        incremental.loadPlayers(csvPath);
+
+        // Act: same row bytes, but the column now means something else
+        Files.write(csvPath, "playerID,birthMonth\naaronha01,1934\n".getBytes());
+        incremental.loadPlayers(csvPath);
+
+        // Assert
+        assertEquals(0, incremental.getById("aaronha01").get().getBirthYear());
+        assertEquals(1934, incremental.getById("aaronha01").get().getBirthMonth());
+    }
+
+    @Test
+    public void testIncrementalReloadPatchesIndexesOnLargeRoster() throws IOException {
+        // Arrange: few enough changes that the indexes are patched rather than rebuilt
+        PlayerRepository incremental = new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(), true);
+        Files.write(csvPath, generatedRoster(100, 50, "r50"));
+        incremental.loadPlayers(csvPath);
+        Player first = incremental.getById("p0").get();
+
+        // Act
+        Files.write(csvPath, generatedRoster(101, 50, "changed50"));
+        incremental.loadPlayers(csvPath);
+
+        // Assert
+        assertSame(first, incremental.getById("p0").get());
+        assertEquals(101, incremental.getAll().size());
+        assertEquals("p100", incremental.getByRetroId("r100").get().getPlayerID());
+        assertEquals("p50", incremental.getByRetroId("changed50").get().getPlayerID());
+        assertTrue(incremental.getByRetroId("r50").isEmpty());
+    }
+
+    @Test
+    public void testStartupUsesBinarySnapshotWhileCsvIsUnchanged() throws IOException {
+        // Arrange: a first process parses the CSV and leaves a binary snapshot behind
+        BinarySnapshotStore snapshotStore = new BinarySnapshotStore(tempDir.resolve("players.snapshot").toString());
+        new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(), snapshotStore, false).loadPlayers(csvPath);
+        ILogger logger = mock(ILogger.class);
+        PlayerRepository restarted = new PlayerRepository(logger, new ParallelPlayerCsvLoader(), snapshotStore, false);
+
+        // Act
+        restarted.loadPlayers(csvPath);
+
+        // Assert
+        verify(logger).info(startsWith("Players loaded from binary snapshot"), any(Object[].class));
+        assertEquals(1895, restarted.getById("ruthba01").get().getBirthYear());
+    }
+
+    @Test
+    public void testStartupFallsBackToCsvWhenSnapshotIsStale() throws IOException {
+        // Arrange
+        BinarySnapshotStore snapshotStore = new BinarySnapshotStore(tempDir.resolve("players.snapshot").toString());
+        new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(), snapshotStore, false).loadPlayers(csvPath);
+        Files.write(csvPath, "playerID,birthYear\nnewguy01,2001\n".getBytes());
+        ILogger logger = mock(ILogger.class);
+        PlayerRepository restarted = new PlayerRepository(logger, new ParallelPlayerCsvLoader(), snapshotStore, false);
+
+        // Act
+        restarted.loadPlayers(csvPath);
+
+        // Assert
+        verify(logger, never()).info(startsWith("Players loaded from binary snapshot"), any(Object[].class));
+        assertTrue(restarted.getById("newguy01").isPresent());
+        assertTrue(restarted.getById("ruthba01").isEmpty());
+    }
+
+    private static byte[] generatedRoster(int rows, int specialRow, String specialRetroId) {
+        StringBuilder csv = new StringBuilder("playerID,birthYear,retroID\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append('p').append(i).append(",1900,").append(i == specialRow ? specialRetroId : "r" + i).append('\n');
+        }
+        return csv.toString().getBytes();
+    }
+
+    @Test
+    public void testRepeatedSmallReloadsMatchAFreshLoad() throws IOException {
+        // Arrange
+        PlayerRepository incremental = new PlayerRepository(mock(ILogger.class), new ParallelPlayerCsvLoader(), true);
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(String.format("p%03d,%d,r%03d,%s,Name%d", i, 1900 + i % 80, i, i % 3 == 0 ? "CAN" : "USA", i % 7));
+        }
+        writeRows(rows);
+        incremental.loadPlayers(csvPath);
+        incremental.getSnapshot().getSearchIndex();
+        incremental.getSnapshot().getNameIndex();
+
+        for (int reload = 0; reload < 40; reload++) {
+            // Act: edit one row in place, and on every fifth reload also append one or drop the last
+            int row = reload * 37 % rows.size();
+            rows.set(row, String.format("p%03d,%d,x%03d,%s,Edited%d", row, 1850 + reload, reload, "MEX", reload));
+            if (reload % 10 == 4) {
+                rows.add(String.format("n%03d,1990,n%03d,USA,Newcomer", reload, reload));
+            } else if (reload % 10 == 9) {
+                rows.remove(rows.size() - 1);
+            }
+            writeRows(rows);
+            incremental.loadPlayers(csvPath);
+
+            // Assert
+            PlayerSnapshot snapshot = incremental.getSnapshot();
+            PlayerSnapshot fresh = PlayerSnapshot.loaded(new ParallelPlayerCsvLoader().load(csvPath),
+                snapshot.getVersion());
+            assertEquals(fresh.getPlayers(), snapshot.getPlayers());
+            for (Player player : fresh.getPlayers()) {
+                assertEquals(player, snapshot.getById(player.getPlayerID()).get());
+                assertEquals(player, snapshot.getByRetroId(player.getRetroID()).get());
+            }
+            assertTrue(snapshot.getByRetroId(String.format("r%03d", row)).isEmpty());
+            for (String country : new String[] { "CAN", "USA", "MEX" }) {
+                PlayerQuery query = new PlayerQuery();
+                query.setBirthCountry(country);
+                assertArrayEquals(fresh.getSearchIndex().search(query), snapshot.getSearchIndex().search(query));
+            }
+            assertEquals(fresh.getNameIndex().search("edited", 0, 100),
+                snapshot.getNameIndex().search("edited", 0, 100));
+            assertEquals(fresh.getStats(), snapshot.getStats());
+        }
+    }
+
+    private void writeRows(List<String> rows) throws IOException {
+        Files.write(csvPath, ("playerID,birthYear,retroID,birthCountry,nameLast\n" + String.join("\n", rows) + "\n")
+            .getBytes());
+    }
+
+    private static byte[] roster(String ruthRow) {
+        return ("playerID,birthYear,retroID\n"
+            + "aaronha01,1934,aaroh101\n"
+            + ruthRow + "\n"
+            + "gehrilo01,1903,gehrl101\n").getBytes();
+    }
+}
@@ -0,0 +1,184 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.repository.index.PlayerSearchIndex;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PlayerSearchIndexTest {
+    private static List<Player> players;
+    private static PlayerSearchIndex index;
+
+    @BeforeAll
+    public static void loadRoster() throws IOException {
+        players = new ParallelPlayerCsvLoader().load(Paths.get("src/main/resources/player.csv"));
+        index = new PlayerSearchIndex(players);
+    }
+
+    @Test
+    public void testEqualityFiltersMatchFullScan() {
+        // Arrange
+        PlayerQuery query = new PlayerQuery();
+        query.setBirthCountry("usa");
+        query.setBirthState("CA");
+        query.setBats("L");
+        query.setPlayerThrows("L");
+
+        // Act
+        List<Player> result = rows(index.search(query));
+
+        // Assert
+        List<Player> expected = scan(p -> "USA".equals(p.getBirthCountry()) && "CA".equals(p.getBirthState())
+            && "L".equals(p.getBats()) && "L".equals(p.getPlayerThrows()));
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testRangeAndLivingFiltersMatchFullScan() {
+        // Arrange
+        PlayerQuery query = new PlayerQuery();
+        query.setBirthYearFrom(1950);
+        query.setBirthYearTo(1959);
+        query.setDebutFrom("1975-01-01");
+        query.setDebutTo("1979-12-31");
+        query.setLiving(false);
+
+        // Act
+        List<Player> result = rows(index.search(query));
+
+        // Assert
+        List<Player> expected = scan(p -> p.getBirthYear() >= 1950 && p.getBirthYear() <= 1959
+            && p.getDebut() != null && p.getDebut().compareTo("1975-01-01") >= 0
+            && p.getDebut().compareTo("1979-12-31") <= 0 && p.getDeathYear() != null);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testLivingOnlyAndNoFilters() {
+        // Arrange
+        PlayerQuery living = new PlayerQuery();
+        living.setLiving(true);
+
+        // Act
+        int[] livingRows = index.search(living);
+        int[] allRows = index.search(new PlayerQuery());
+
+        // Assert
+        assertEquals(scan(p -> p.getDeathYear() == null), rows(livingRows));
+        assertEquals(players.size(), allRows.length);
+    }
+
+    @Test
+    public void testSortsByRequestedFieldAndDirection() {
+        // Arrange
+        PlayerQuery query = new PlayerQuery();
+        query.setBirthCountry("CAN");
+        query.setSort("birthYear");
+        query.setDescending(true);
+
+        // Act
+        List<Player> result = rows(index.search(query));
+
+        // Assert
+        List<Integer> years = result.stream().map(Player::getBirthYear).collect(Collectors.toList());
+        List<Integer> sorted = years.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        assertEquals(scan(p -> "CAN".equals(p.getBirthCountry())).size(), result.size());
+        assertTrue(result.size() > 1);
+        assertEquals(sorted, years);
+    }
+
+    @Test
+    public void testRejectsUnknownSortAndBadDate() {
+        // Arrange
+        PlayerQuery badSort = new PlayerQuery();
+        badSort.setSort("salary");
+        PlayerQuery badDate = new PlayerQuery();
+        badDate.setDebutFrom("1999/01/01");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> index.search(badSort));
+        assertThrows(IllegalArgumentException.class, () -> index.search(badDate));
+    }
+
+    @Test
+    public void testUnknownValueMatchesNothing() {
+        // Arrange
+        PlayerQuery query = new PlayerQuery();
+        query.setBirthCity("Atlantis");
+
+        // Act
+        int[] result = index.search(query);
+
+        // Assert
+        assertEquals(0, result.length);
+    }
+
+    @Test
+    public void testPatchedIndexMatchesRebuild() {
+        // Arrange: edit every 1000th row in place and append two players
+        ObjectMapper mapper = new ObjectMapper();
+        List<Player> edited = new ArrayList<>(players);
+        List<Integer> changed = new ArrayList<>();
+        for (int row = 0; row < players.size(); row += 1000) {
+            Player player = mapper.convertValue(players.get(row), Player.class);
+            player.setBirthCountry(row % 2000 == 0 ? "CAN" : "Atlantis");
+            player.setBats("S");
+            player.setBirthYear(player.getBirthYear() + 30);
+            player.setDebut(row % 3000 == 0 ? null : "1977-06-15");
+            player.setDeathYear(player.getDeathYear() == null ? 2000 : null);
+            edited.set(row, player);
+            changed.add(row);
+        }
+        for (String id : new String[] { "newbie01", "newbie02" }) {
+            Player player = mapper.convertValue(players.get(1), Player.class);
+            player.setPlayerID(id);
+            player.setBirthCity("Atlantis");
+            changed.add(edited.size());
+            edited.add(player);
+        }
+
+        // Act
+        PlayerSearchIndex patched = index.withChanges(edited, changed.stream().mapToInt(Integer::intValue).toArray());
+
+        // Assert
+        PlayerSearchIndex rebuilt = new PlayerSearchIndex(edited);
+        for (PlayerQuery query : List.of(query(q -> q.setBirthCountry("CAN")),
+                query(q -> q.setBirthCountry("atlantis")), query(q -> q.setBats("s")), query(q -> q.setBirthCity("Atlantis")), query(q -> q.setLiving(false)),
+                query(q -> q.setLiving(true)), query(q -> { q.setBirthYearFrom(1950); q.setBirthYearTo(1999); }),
+                query(q -> { q.setDebutFrom("1977-01-01"); q.setDebutTo("1977-12-31"); }),
+                query(q -> { q.setBirthCountry("USA"); q.setSort("birthYear"); }))) {
+            assertArrayEquals(rebuilt.search(query), patched.search(query), query.toString());
+        }
+        assertEquals(changed.size() - 2, patched.search(query(q -> q.setBats("S"))).length);
+    }
+
+    private static PlayerQuery query(Consumer<PlayerQuery> filters) {
+        PlayerQuery query = new PlayerQuery();
+        filters.accept(query);
+        return query;
+    }
+
+    private static List<Player> rows(int[] rows) {
+        return IntStream.of(rows).mapToObj(players::get).collect(Collectors.toList());
+    }
+
+    private static List<Player> scan(Predicate<Player> filter) {
+        return players.stream().filter(filter).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,166 @@
+package com.intuit.playerservice.unitTest.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.model.PlayerDistribution;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.model.PlayerStats;
+import com.intuit.playerservice.repository.index.PlayerStatistics;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.repository.store.ListPlayerStore;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class PlayerStatisticsTest {
+    private static List<Player> players;
+
+    @BeforeAll
+    public static void loadRoster() throws IOException {
+        players = new ParallelPlayerCsvLoader().load(Paths.get("src/main/resources/player.csv"));
+    }
+
+    @Test
+    public void testCountsMatchSequentialScan() {
+        // Act
+        PlayerStats stats = PlayerStatistics.compute(players, 3);
+
+        // Assert
+        assertEquals(players.size(), stats.getPlayers());
+        assertEquals(3, stats.getSnapshotVersion());
+        assertEquals(count(players.stream().filter(p -> p.getBirthCountry() != null && !p.getBirthCountry().isBlank())
+            .collect(Collectors.groupingBy(Player::getBirthCountry, Collectors.counting()))), stats.getBirthCountries());
+        assertEquals(count(players.stream().filter(p -> p.getBirthYear() > 0)
+            .collect(Collectors.groupingBy(p -> p.getBirthYear() / 10 * 10, Collectors.counting()))), stats.getBirthDecades());
+        assertEquals(count(players.stream().filter(p -> p.getDebut() != null && p.getDebut().length() >= 4)
+            .collect(Collectors.groupingBy(p -> Integer.parseInt(p.getDebut().substring(0, 4)), Collectors.counting()))),
+            stats.getDebutYears());
+        assertTrue(stats.getBatsThrows().get("R/R") > stats.getBatsThrows().get("L/L"));
+    }
+
+    @Test
+    public void testDistributionsMatchSequentialScan() {
+        // Act
+        PlayerStats stats = PlayerStatistics.compute(players, 1);
+
+        // Assert
+        DoubleSummaryStatistics weights = players.stream().mapToDouble(Player::getWeight).filter(w -> w > 0)
+            .summaryStatistics();
+        PlayerDistribution weight = stats.getWeight();
+        assertEquals(weights.getCount(), weight.getCount());
+        assertEquals(weights.getMin(), weight.getMin());
+        assertEquals(weights.getMax(), weight.getMax());
+        assertEquals(weights.getAverage(), weight.getMean(), 1e-9);
+        assertEquals(PlayerStatistics.WEIGHT_BUCKET_POUNDS, weight.getBucketWidth());
+        assertEquals(weight.getCount(), weight.getHistogram().values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(stats.getHeight().getCount(), players.stream().filter(p -> p.getHeight() > 0).count());
+    }
+
+    @Test
+    public void testBlankAndMissingValuesAreLeftOut() {
+        // Arrange
+        Player full = new Player();
+        full.setBirthCountry("USA");
+        full.setBirthYear(1987);
+        full.setBats("L");
+        full.setPlayerThrows("R");
+        full.setDebut("2008-04-01");
+        full.setHeight(74);
+        full.setWeight(205);
+        Player blank = new Player();
+        blank.setBirthCountry(" ");
+        blank.setBats("B");
+        blank.setDebut("");
+
+        // Act
+        PlayerStats stats = PlayerStatistics.compute(List.of(full, blank), 1);
+
+        // Assert
+        assertEquals(2, stats.getPlayers());
+        assertEquals(Map.of("USA", 1), stats.getBirthCountries());
+        assertEquals(Map.of(1980, 1), stats.getBirthDecades());
+        assertEquals(Map.of("L/R", 1), stats.getBatsThrows());
+        assertEquals(Map.of(2008, 1), stats.getDebutYears());
+        assertEquals(Map.of(74, 1), stats.getHeight().getHistogram());
+        assertEquals(Map.of(200, 1), stats.getWeight().getHistogram());
+        assertEquals(0, PlayerStatistics.compute(List.of(), 1).getWeight().getCount());
+    }
+
+    @Test
+    public void testStatsAreComputedOncePerSnapshot() {
+        // Arrange
+        PlayerSnapshot loaded = PlayerSnapshot.loaded(players, 1);
+        PlayerSnapshot unindexed = PlayerSnapshot.unindexed(new ListPlayerStore(players), 2);
+
+        // Act
+        PlayerStats first = loaded.getStats();
+
+        // Assert
+        assertSame(first, loaded.getStats());
+        assertSame(first, loaded.withLoadError("reload failed").getStats());
+        assertSame(unindexed.getStats(), unindexed.getStats());
+        assertEquals(first.getBirthCountries(), unindexed.getStats().getBirthCountries());
+        assertEquals(2, unindexed.getStats().getSnapshotVersion());
+    }
+
+    @Test
+    public void testSmallReloadPublishesItsStats() throws ReflectiveOperationException {
+        // Arrange
+        PlayerSnapshot previous = PlayerSnapshot.loaded(players, 1);
+        List<Player> reloaded = new ArrayList<>(players);
+        Player edited = new Player();
+        edited.setPlayerID(players.get(0).getPlayerID());
+        edited.setBirthCountry("Atlantis");
+        reloaded.set(0, edited);
+        Field stats = PlayerSnapshot.class.getDeclaredField("stats");
+        stats.setAccessible(true);
+
+        // Act
+        PlayerSnapshot next = PlayerSnapshot.fromDelta(previous, PlayerDelta.compare(previous, reloaded, Map.of()), 2);
+
+        // Assert
+        assertEquals(PlayerStatistics.compute(reloaded, 2), stats.get(next));
+        assertEquals(1, next.getStats().getBirthCountries().get("Atlantis"));
+    }
+
+    @Test
+    public void testStatsRunOnTheirOwnPool() {
+        // Arrange
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Player> recorded = new AbstractList<>() {
+            @Override
+            public Player get(int index) {
+                threads.add(Thread.currentThread().getName());
+                return players.get(index);
+            }
+
+            @Override
+            public int size() {
+                return players.size();
+            }
+        };
+
+        // Act
+        PlayerStatistics.compute(recorded, 1);
+
+        // Assert
+        assertFalse(threads.isEmpty());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("player-statistics-")), threads::toString);
+    }
+
+    private static <K> Map<K, Integer> count(Map<K, Long> counts) {
+        return counts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().intValue()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.service.ClientRateLimiter;
+import com.intuit.playerservice.service.interfaces.IClientRateLimiter.Budget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ClientRateLimiterTest {
+    private SimpleMeterRegistry registry;
+    private AtomicLong clock;
+    private ClientRateLimiter limiter;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        limiter = new ClientRateLimiter(true, "", "", 10, 20, 1, 2, new PlayerMetrics(registry), clock::get);
+    }
+
+    @Test
+    public void testBurstThenRefillAtRate() {
+        // Act
+        int granted = 0;
+        while (limiter.tryAcquire("10.0.0.1", Budget.STANDARD) == 0) {
+            granted++;
+        }
+        long wait = limiter.tryAcquire("10.0.0.1", Budget.STANDARD);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Assert
+        assertEquals(20, granted);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", Budget.STANDARD));
+        assertTrue(limiter.tryAcquire("10.0.0.1", Budget.STANDARD) > 0);
+        assertEquals(3, registry.get("player.requests.rejected").tag("budget", "standard").counter().count());
+    }
+
+    @Test
+    public void testExpensiveBudgetIsSeparatePerClient() {
+        // Act
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE));
+        long wait = limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE);
+
+        // Assert
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", Budget.STANDARD));
+        assertEquals(0, limiter.tryAcquire("10.0.0.2", Budget.EXPENSIVE));
+        assertEquals(1, registry.get("player.requests.rejected").tag("budget", "expensive").counter().count());
+        assertEquals(0, registry.get("player.requests.rejected").tag("budget", "standard").counter().count());
+    }
+
+    @Test
+    public void testIdleBucketRefillsOnlyUpToBurst() {
+        // Arrange
+        for (int i = 0; i < 2; i++) {
+            limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE);
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // Assert
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE));
+        assertTrue(limiter.tryAcquire("10.0.0.1", Budget.EXPENSIVE) > 0);
+    }
+
+    @Test
+    public void testDisabledNeverRejects() {
+        // Arrange
+        ClientRateLimiter disabled = new ClientRateLimiter(false, "X-Client-Id", "", 1, 1, 1, 1,
+            new PlayerMetrics(registry), clock::get);
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, disabled.tryAcquire("10.0.0.1", Budget.EXPENSIVE));
+        }
+        assertEquals("X-Client-Id", disabled.getClientHeader());
+        assertNull(limiter.getClientHeader());
+    }
+
+    @Test
+    public void testClientHeaderTrustedOnlyFromConfiguredProxies() {
+        // Arrange
+        ClientRateLimiter proxied = new ClientRateLimiter(true, "X-Client-Id", " 10.0.0.9, 10.0.0.10 ", 1, 1, 1, 1,
+            new PlayerMetrics(registry), clock::get);
+
+        // Act & Assert
+        assertTrue(proxied.isTrustedProxy("10.0.0.9"));
+        assertTrue(proxied.isTrustedProxy("10.0.0.10"));
+        assertFalse(proxied.isTrustedProxy("10.0.0.1"));
+        assertFalse(limiter.isTrustedProxy("10.0.0.9"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.service.FileWatcherService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FileWatcherServiceTest {
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    @TempDir
+    Path tempDir;
+    private FileWatcherService fileWatcherService;
+    private Path watchedFile;
+    private final AtomicInteger notifications = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        watchedFile = Files.writeString(tempDir.resolve("players.csv"), "playerID\n");
+        fileWatcherService = new FileWatcherService(mock(ILogger.class), DEBOUNCE_MILLIS);
+        fileWatcherService.registerFile(watchedFile, path -> notifications.incrementAndGet());
+        fileWatcherService.startWatching();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fileWatcherService.stopWatching();
+    }
+
+    @Test
+    public void testBurstOfWritesIsCoalescedIntoOneNotification() throws Exception {
+        // Act: several writes well inside one debounce window
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(watchedFile, "playerID\np" + i + "\n");
+            Thread.sleep(10);
+        }
+        Thread.sleep(DEBOUNCE_MILLIS * 6);
+
+        // Assert
+        assertEquals(1, notifications.get());
+        assertEquals(1, fileWatcherService.getChangesDispatched());
+        assertTrue(fileWatcherService.getEventsCoalesced() > 0);
+    }
+
+    @Test
+    public void testAtomicRenameIntoPlaceIsDetected() throws Exception {
+        // Act
+        Path staged = Files.writeString(tempDir.resolve("players.csv.tmp"), "playerID\nrenamed\n");
+        Files.move(staged, watchedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Thread.sleep(DEBOUNCE_MILLIS * 6);
+
+        // Assert
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    public void testUnregisteredFilesAreIgnored() throws Exception {
+        // Act
+        Files.writeString(tempDir.resolve("other.csv"), "playerID\n");
+        Thread.sleep(DEBOUNCE_MILLIS * 4);
+
+        // Assert
+        assertEquals(0, notifications.get());
+        assertEquals(0, fileWatcherService.getEventsReceived());
+    }
+
+    @Test
+    public void testChangesDuringReloadQueueAtMostOneMoreReload() throws Exception {
+        // Arrange: a listener that holds the reload thread until released
+        Path slowFile = Files.writeString(tempDir.resolve("slow.csv"), "playerID\n");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger reloads = new AtomicInteger();
+        fileWatcherService.registerFile(slowFile, path -> {
+            reloads.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Act: one change starts a reload, then three more settle while it runs
+        Files.writeString(slowFile, "playerID\np0\n");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 3; i++) {
+            Files.writeString(slowFile, "playerID\np" + i + "\n");
+            Thread.sleep(DEBOUNCE_MILLIS * 6);
+        }
+        release.countDown();
+        Thread.sleep(DEBOUNCE_MILLIS * 4);
+
+        // Assert
+        assertEquals(2, reloads.get());
+        assertEquals(2, fileWatcherService.getChangesDispatched());
+    }
+}
@@ -0,0 +1,119 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.service.PlayerChangeFeed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PlayerChangeFeedTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private SimpleMeterRegistry registry;
+    private PlayerChangeFeed feed;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        feed = new PlayerChangeFeed(2, 2, new PlayerMetrics(registry));
+    }
+
+    @Test
+    public void testReconnectReplaysChangesAfterLastVersion() {
+        // Arrange
+        feed.reset(0, 1);
+        feed.publish(change(1, 2));
+        feed.publish(change(2, 3));
+
+        // Act
+        List<PlayerChangeEvent> replayed = feed.subscribe(2L).take(1).collectList().block(TIMEOUT);
+        List<PlayerChangeEvent> all = feed.subscribe(1L).take(2).collectList().block(TIMEOUT);
+
+        // Assert
+        assertEquals(List.of(change(2, 3)), replayed);
+        assertEquals(List.of(change(1, 2), change(2, 3)), all);
+    }
+
+    @Test
+    public void testLiveSubscriberGetsNextChange() {
+        // Arrange
+        feed.reset(0, 1);
+        List<PlayerChangeEvent> received = new CopyOnWriteArrayList<>();
+        feed.subscribe(null).subscribe(received::add);
+
+        // Act
+        feed.publish(change(1, 2));
+
+        // Assert
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (received.isEmpty() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(List.of(change(1, 2)), received);
+    }
+
+    @Test
+    public void testVersionOlderThanReplayBufferGetsReset() {
+        // Arrange
+        feed.reset(0, 1);
+        feed.publish(change(1, 2));
+        feed.publish(change(2, 3));
+        feed.publish(change(3, 4));
+
+        // Act
+        PlayerChangeEvent first = feed.subscribe(1L).blockFirst(TIMEOUT);
+        PlayerChangeEvent unknown = feed.subscribe(99L).blockFirst(TIMEOUT);
+
+        // Assert
+        assertTrue(first.isReset());
+        assertEquals(1, first.getPreviousVersion());
+        assertEquals(4, first.getVersion());
+        assertTrue(unknown.isReset());
+        assertEquals(4, unknown.getVersion());
+    }
+
+    @Test
+    public void testSlowSubscriberIsDroppedWithoutBlockingPublish() {
+        // Arrange
+        feed.reset(0, 1);
+        AtomicBoolean completed = new AtomicBoolean();
+        feed.subscribe(null).subscribe(new BaseSubscriber<PlayerChangeEvent>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // Never requests anything, like a client that stopped reading
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.set(true);
+            }
+        });
+
+        // Act
+        for (long version = 2; version <= 10; version++) {
+            feed.publish(change(version - 1, version));
+        }
+
+        // Assert
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!completed.get() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(completed.get());
+        assertEquals(1, registry.get("player.changes.overflows").counter().count());
+        assertEquals(List.of(change(8, 9), change(9, 10)), feed.subscribe(8L).take(2).collectList().block(TIMEOUT));
+    }
+
+    private static PlayerChangeEvent change(long previousVersion, long version) {
+        return new PlayerChangeEvent(version, previousVersion, false, List.of(), List.of(), List.of("p" + version));
+    }
+}
@@ -0,0 +1,167 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.repository.interfaces.IPlayerCsvLoader;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.repository.loader.ParallelPlayerCsvLoader;
+import com.intuit.playerservice.service.PlayerDatasets;
+import com.intuit.playerservice.service.PlayerProperties;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+import com.intuit.playerservice.service.interfaces.IPlayerService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class PlayerDatasetsTest {
+    @TempDir
+    Path tempDir;
+    private IPlayerService defaultService;
+    private IFileWatcherService fileWatcherService;
+    private PlayerProperties properties;
+    private Path alCsv;
+    private Path nlCsv;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        defaultService = mock(IPlayerService.class);
+        fileWatcherService = mock(IFileWatcherService.class);
+        alCsv = Files.writeString(tempDir.resolve("al.csv"), "playerID,nameLast\nal01,Ruth\nal02,Gehrig\n");
+        nlCsv = Files.writeString(tempDir.resolve("nl.csv"), "playerID,nameLast\nnl01,Aaron\n");
+        properties = new PlayerProperties();
+        properties.getFile().setPath(tempDir.resolve("player.csv").toString());
+        properties.getDatasets().put("al", alCsv.toString());
+        properties.getDatasets().put("nl", nlCsv.toString());
+    }
+
+    @Test
+    public void testEachDatasetLoadsIntoItsOwnSnapshot() {
+        // Arrange
+        PlayerDatasets datasets = datasets(new ParallelPlayerCsvLoader());
+
+        // Act
+        datasets.loadAll();
+
+        // Assert
+        assertEquals(Set.of("default", "al", "nl"), datasets.getNames());
+        assertEquals(2, datasets.getService("al").getAll().size());
+        assertEquals("Aaron", datasets.getService("nl").getById("nl01").get().getNameLast());
+        assertTrue(datasets.getService("nl").getById("al01").isEmpty());
+        assertSame(defaultService, datasets.getService(null));
+        assertSame(defaultService, datasets.getService("default"));
+        verify(defaultService).initFileWatching(tempDir.resolve("player.csv"));
+    }
+
+    @Test
+    public void testUnknownDatasetIsNotFound() {
+        // Arrange
+        PlayerDatasets datasets = datasets(new ParallelPlayerCsvLoader());
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> datasets.getService("pcl"));
+    }
+
+    @Test
+    public void testDatasetNamesMustBeUrlSafe() {
+        // Arrange
+        properties.getDatasets().put("default", alCsv.toString());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> datasets(new ParallelPlayerCsvLoader()));
+    }
+
+    @Test
+    public void testDatasetsMustReadDifferentFiles() {
+        // Arrange: the same file reached through a different relative path
+        properties.getDatasets().put("al2", tempDir.resolve("x").resolve("..").resolve("al.csv").toString());
+
+        // Act
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> datasets(new ParallelPlayerCsvLoader()));
+
+        // Assert
+        assertTrue(e.getMessage().contains("al and al2"));
+    }
+
+    @Test
+    public void testLoaderThreadsAreNamedAfterTheirDataset() {
+        // Arrange
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> threads.add(Thread.currentThread().getName()))
+            .when(defaultService).initFileWatching(any());
+        PlayerDatasets datasets = datasets(new ParallelPlayerCsvLoader());
+
+        // Act
+        datasets.loadAll();
+
+        // Assert
+        assertEquals(Set.of("dataset-loader-default"), threads);
+    }
+
+    @Test
+    public void testReloadOfOneDatasetDoesNotBlockAnother() throws Exception {
+        // Arrange: loads of the AL file wait until released once the gate is armed
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        boolean[] armed = { false };
+        ParallelPlayerCsvLoader parallel = new ParallelPlayerCsvLoader();
+        IPlayerCsvLoader loader = new IPlayerCsvLoader() {
+            @Override
+            public String getName() {
+                return "gated";
+            }
+
+            @Override
+            public List<Player> load(Path path) throws IOException {
+                if (armed[0] && path.equals(alCsv)) {
+                    blocked.countDown();
+                    try {
+                        gate.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return parallel.load(path);
+            }
+        };
+        PlayerDatasets datasets = datasets(loader);
+        datasets.loadAll();
+        armed[0] = true;
+
+        // Act: start an AL reload that stalls, then read and reload NL while it is stuck
+        Thread reload = new Thread(() -> datasets.getService("al").loadPlayers(alCsv));
+        reload.start();
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        Files.writeString(nlCsv, "playerID,nameLast\nnl01,Aaron\nnl02,Mays\n");
+
+        // Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertTrue(datasets.getService("nl").getById("nl01").isPresent());
+            datasets.getService("nl").loadPlayers(nlCsv);
+            assertEquals(2, datasets.getService("nl").getAll().size());
+            assertEquals(2, datasets.getService("al").getAll().size());
+        });
+        gate.countDown();
+        reload.join(5000);
+    }
+
+    private PlayerDatasets datasets(IPlayerCsvLoader loader) {
+        return new PlayerDatasets(defaultService, mock(IPlayerRepository.class), fileWatcherService, loader,
+            PlayerMetrics.disabled(), mock(ILogger.class), properties, new MockEnvironment());
+    }
+}
@@ -0,0 +1,147 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intuit.playerservice.model.CachedResponse;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.service.PlayerResponseCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+public class PlayerResponseCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IPlayerRepository playerRepository;
+    private PlayerResponseCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        playerRepository = mock(IPlayerRepository.class);
+        cache = new PlayerResponseCache(playerRepository, objectMapper, true, 1 << 20);
+    }
+
+    @Test
+    public void testPlayerRenderedOncePerSnapshot() throws IOException {
+        // Arrange
+        List<Player> players = players(3);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players, 1));
+
+        // Act
+        CachedResponse first = cache.getById("p1");
+        CachedResponse second = cache.getById("p1");
+
+        // Assert
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(players.get(1)), first.getJson());
+        assertNull(cache.getById("missing"));
+    }
+
+    @Test
+    public void testNewSnapshotDropsRenderedBytesAndChangesETag() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players(3), 1));
+        CachedResponse before = cache.getById("p1");
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players(3), 2));
+
+        // Act
+        CachedResponse after = cache.getById("p1");
+
+        // Assert
+        assertNotSame(before, after);
+        assertNotEquals(before.getETag(false), after.getETag(false));
+        assertFalse(after.matches(before.getETag(false)));
+        assertTrue(after.matches("W/" + after.getETag(false)));
+        assertTrue(after.matches("\"other\", " + after.getETag(true)));
+    }
+
+    @Test
+    public void testFailedReloadKeepsServingCachedBytes() {
+        // Arrange
+        PlayerSnapshot loaded = PlayerSnapshot.loaded(players(3), 1);
+        when(playerRepository.getSnapshot()).thenReturn(loaded);
+        CachedResponse before = cache.getById("p1");
+        when(playerRepository.getSnapshot()).thenReturn(loaded.withLoadError("Reload error"));
+
+        // Act
+        CachedResponse after = cache.getById("p1");
+
+        // Assert
+        assertSame(before, after);
+    }
+
+    @Test
+    public void testPagesRenderedAndCompressed() throws IOException {
+        // Arrange
+        List<Player> players = players(50);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players, 1));
+
+        // Act
+        CachedResponse page = cache.getPlayersPage(2, 10);
+
+        // Assert
+        assertSame(page, cache.getPlayersPage(2, 10));
+        assertArrayEquals(objectMapper.writeValueAsBytes(players.subList(10, 20)), page.getJson());
+        assertTrue(page.isCompressible());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.getGzip()))) {
+            assertArrayEquals(page.getJson(), in.readAllBytes());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> cache.getPlayersPage(6, 10));
+    }
+
+    @Test
+    public void testPagesPastByteBoundAreNotRetained() {
+        // Arrange
+        cache = new PlayerResponseCache(playerRepository, objectMapper, true, 1);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players(5), 1));
+
+        // Act
+        CachedResponse first = cache.getPlayersPage(1, 5);
+        CachedResponse second = cache.getPlayersPage(1, 5);
+
+        // Assert
+        assertNotSame(first, second);
+        assertArrayEquals(first.getJson(), second.getJson());
+    }
+
+    @Test
+    public void testOversizedPageIsRejected() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players(5), 1));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> cache.getPlayersPage(1, 1001));
+        assertThrows(IllegalArgumentException.class, () -> cache.getPlayersPage(1, 0));
+        assertNotNull(cache.getPlayersPage(1, 1000));
+    }
+
+    @Test
+    public void testUnavailableSnapshot() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.EMPTY.withLoadError("Load error"));
+
+        // Act & Assert
+        assertNull(cache.getById("p1"));
+        assertThrows(IllegalStateException.class, () -> cache.getPlayersPage(1, 10));
+    }
+
+    private static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player player = new Player();
+            player.setPlayerID("p" + i);
+            player.setNameFirst("First" + i);
+            player.setNameLast("Last" + i);
+            player.setBirthYear(1900 + i);
+            players.add(player);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,129 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerSnapshot;
+import com.intuit.playerservice.repository.PlayerRepository;
+import com.intuit.playerservice.service.PlayerService;
+import com.intuit.playerservice.service.interfaces.IFileWatcherService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PlayerServiceConcurrencyTest {
+    private static final int READERS = 4;
+    private static final int RELOADS = 60;
+
+    @TempDir
+    Path tempDir;
+    private PlayerRepository playerRepository;
+    private PlayerService playerService;
+    private Path smallFile;
+    private Path largeFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ILogger logger = mock(ILogger.class);
+        playerRepository = new PlayerRepository(logger);
+        playerService = new PlayerService(playerRepository, mock(IFileWatcherService.class), logger);
+
+        // Every row of a file carries the same birth year, so a reader can tell which file a snapshot came from
+        smallFile = writeRoster("small.csv", 1000, 1900);
+        largeFile = writeRoster("large.csv", 3000, 2000);
+    }
+
+    @Test
+    public void testReadersSeeConsistentSnapshotsDuringReloads() throws Exception {
+        // Arrange
+        playerService.loadPlayers(smallFile);
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+        List<Future<Integer>> readers = new ArrayList<>();
+
+        // Act: readers check list/index consistency while the files are swapped and a bad reload is thrown in
+        for (int i = 0; i < READERS; i++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                int reads = 0;
+                while (reloading.get()) {
+                    PlayerSnapshot snapshot = playerRepository.getSnapshot();
+                    int expectedYear = snapshot.size() == 1000 ? 1900 : 2000;
+                    assertTrue(snapshot.size() == 1000 || snapshot.size() == 3000);
+                    assertEquals(expectedYear, snapshot.getPlayers().get(snapshot.size() - 1).getBirthYear());
+                    Optional<Player> player = snapshot.getById("p" + (snapshot.size() - 1));
+                    assertTrue(player.isPresent());
+                    assertEquals(expectedYear, player.get().getBirthYear());
+
+                    assertFalse(playerService.getAll().isEmpty());
+                    assertEquals(10, playerService.getPlayersPage(1, 10).size());
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+        Future<?> reloader = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < RELOADS; i++) {
+                playerService.loadPlayers(i % 2 == 0 ? largeFile : smallFile);
+                if (i % 10 == 0) {
+                    playerService.loadPlayers(tempDir.resolve("missing.csv"));
+                }
+            }
+            reloading.set(false);
+            return null;
+        });
+        start.countDown();
+        reloader.get(60, TimeUnit.SECONDS);
+
+        // Assert
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+        }
+        executor.shutdown();
+        PlayerSnapshot last = playerRepository.getSnapshot();
+        assertEquals(1000, last.size());
+        assertEquals(PlayerSnapshot.LoadStatus.LOADED, last.getStatus());
+    }
+
+    @Test
+    public void testFailedReloadKeepsLastGoodSnapshot() {
+        // Arrange
+        playerService.loadPlayers(smallFile);
+        long version = playerRepository.getSnapshot().getVersion();
+
+        // Act
+        playerService.loadPlayers(tempDir.resolve("missing.csv"));
+
+        // Assert
+        PlayerSnapshot snapshot = playerRepository.getSnapshot();
+        assertEquals(PlayerSnapshot.LoadStatus.STALE, snapshot.getStatus());
+        assertEquals(version, snapshot.getVersion());
+        assertNotNull(snapshot.getLoadError());
+        assertEquals(1000, playerService.getAll().size());
+        assertTrue(playerService.getById("p1").isPresent());
+    }
+
+    private Path writeRoster(String fileName, int rows, int birthYear) throws IOException {
+        StringBuilder csv = new StringBuilder("playerID,birthYear\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append('p').append(i).append(',').append(birthYear).append('\n');
+        }
+        return Files.writeString(tempDir.resolve(fileName), csv);
+    }
+}
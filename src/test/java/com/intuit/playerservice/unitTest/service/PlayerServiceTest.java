@@ -5,9 +5,19 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 import com.intuit.playerservice.logging.ILogger;
+import com.intuit.playerservice.metrics.IPlayerMetrics;
 import com.intuit.playerservice.model.Player;
+import com.intuit.playerservice.model.PlayerChangeEvent;
+import com.intuit.playerservice.model.PlayerDelta;
+import com.intuit.playerservice.model.PlayerLookup;
+import com.intuit.playerservice.model.PlayerPage;
+import com.intuit.playerservice.model.PlayerQuery;
+import com.intuit.playerservice.model.PlayerSearchResult;
+import com.intuit.playerservice.model.PlayerSnapshot;
 import com.intuit.playerservice.repository.interfaces.IPlayerRepository;
+import com.intuit.playerservice.repository.interfaces.IPlayerStore;
 import com.intuit.playerservice.service.PlayerService;
+import com.intuit.playerservice.service.SnapshotExpiredException;
 import com.intuit.playerservice.service.interfaces.IFileWatcherService;
 import com.intuit.playerservice.service.interfaces.IPlayerService;
 
@@ -20,9 +30,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.lang.reflect.Field;
 
@@ -52,9 +68,6 @@ public class PlayerServiceTest {
         
         // Manually create the PlayerService instance with mocks
         playerService = new PlayerService(playerRepository, fileWatcherService, logger);
-        
-        // Set the filePath directly (simulate @Value injection)
-        updatePrivateFieldValue(playerService, testFilePath, "filePath");
     }
 
     @Test
@@ -82,8 +95,8 @@ public class PlayerServiceTest {
         // Act: Execute the method
         playerService.initFileWatching(testFilePath);
 
-        // Assert: Verify that the error message is set correctly
-        assertEquals("Error initializing FileWatcherService: Test IOException", getPrivateFieldValue(playerService, "loadErrorMessage"));
+        // Assert: Verify that the error message is recorded on the snapshot
+        verify(playerRepository).recordLoadFailure("Error initializing FileWatcherService: Test IOException");
 
         // Assert: Verify that the logger logs the error
         verify(logger).error(eq("Error initializing FileWatcherService"), any(IOException.class));
@@ -99,11 +112,10 @@ public class PlayerServiceTest {
 
         // Act
         playerService.loadPlayers(this.testFilePath);
-        Object errorMessage = getPrivateFieldValue(playerService, "loadErrorMessage");
 
         // Assert
         verify(playerRepository).loadPlayers(this.testFilePath);
-        assertNull(errorMessage);
+        verify(playerRepository, never()).recordLoadFailure(any());
     }
 
     @Test
@@ -122,7 +134,7 @@ public class PlayerServiceTest {
         verify(logger).error(messageCaptor.capture(), throwableCaptor.capture());
 
         // Assert the captured error message
-        assertNotNull(getPrivateFieldValue(playerService, "loadErrorMessage"));
+        verify(playerRepository).recordLoadFailure("Error loading data: Test error");
         assertEquals("Error loading data: ", messageCaptor.getValue());
         assertEquals("Test error", throwableCaptor.getValue().getMessage());
     }
@@ -132,7 +144,8 @@ public class PlayerServiceTest {
         // Arrange
         String playerId = "player1";
         Player player = new Player();
-        when(playerRepository.getById(playerId)).thenReturn(Optional.of(player));
+        player.setPlayerID(playerId);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(List.of(player), 1));
 
         // Act
         Optional<Player> result = playerService.getById(playerId);
@@ -142,11 +155,29 @@ public class PlayerServiceTest {
         assertEquals(player, result.get());
     }
 
+    @Test
+    public void testLookupsRecordHitsAndMisses() {
+        // Arrange
+        IPlayerMetrics metrics = mock(IPlayerMetrics.class);
+        playerService = new PlayerService(playerRepository, fileWatcherService, logger, metrics);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a"), 1));
+
+        // Act
+        playerService.getById("a");
+        playerService.getById("b");
+        playerService.getByRetroId("r");
+
+        // Assert
+        verify(metrics).recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, true);
+        verify(metrics).recordLookup(IPlayerMetrics.Lookup.PLAYER_ID, false);
+        verify(metrics).recordLookup(IPlayerMetrics.Lookup.RETRO_ID, false);
+    }
+
     @Test
     public void testGetByIdWhenError() {
         // Arrange
         String playerId = "player1";
-        updatePrivateFieldValue(playerService, "Load error", "loadErrorMessage");
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.EMPTY.withLoadError("Load error"));
 
         // Act
         Optional<Player> result = playerService.getById(playerId);
@@ -159,7 +190,7 @@ public class PlayerServiceTest {
     public void testGetAllWhenNoError() {
         // Arrange
         List<Player> players = List.of(new Player(), new Player());
-        when(playerRepository.getAll()).thenReturn(players);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players, 1));
 
         // Act
         List<Player> result = playerService.getAll();
@@ -171,7 +202,7 @@ public class PlayerServiceTest {
     @Test
     public void testGetAllWhenError() {
         // Arrange
-        updatePrivateFieldValue(playerService, "Load error", "loadErrorMessage");
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.EMPTY.withLoadError("Load error"));
 
         // Act
         Exception exception = assertThrows(IllegalStateException.class, () -> {
@@ -182,6 +213,395 @@ public class PlayerServiceTest {
         assertEquals("Load error", exception.getMessage());
     }
 
+    @Test
+    public void testGetAllServesLastGoodSnapshotAfterFailedReload() {
+        // Arrange
+        List<Player> players = List.of(new Player());
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players, 1).withLoadError("Reload error"));
+
+        // Act
+        List<Player> result = playerService.getAll();
+
+        // Assert
+        assertEquals(players, result);
+    }
+
+    @Test
+    public void testGetPlayersAfterWalksAllPlayersInIdOrder() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("c", "a", "e", "b", "d"), 3));
+
+        // Act
+        PlayerPage first = playerService.getPlayersAfter(null, 2);
+        PlayerPage second = playerService.getPlayersAfter(first.getNextCursor(), 2);
+        PlayerPage last = playerService.getPlayersAfter(second.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of("a", "b"), ids(first));
+        assertEquals(List.of("c", "d"), ids(second));
+        assertEquals(List.of("e"), ids(last));
+        assertNull(last.getNextCursor());
+        assertEquals(3, first.getSnapshotVersion());
+    }
+
+    @Test
+    public void testGetPlayersAfterResumesAfterReload() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a", "b", "c", "d"), 1));
+        PlayerPage first = playerService.getPlayersAfter(null, 2);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("d", "a", "bb", "c"), 2));
+
+        // Act
+        PlayerPage second = playerService.getPlayersAfter(first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of("a", "b"), ids(first));
+        assertEquals(List.of("bb", "c"), ids(second));
+        assertEquals(2, second.getSnapshotVersion());
+    }
+
+    @Test
+    public void testGetPlayersAfterAcceptsVersionedCursors() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a", "b", "c", "d"), 5));
+        String versioned = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("v1:1:b".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        PlayerPage page = playerService.getPlayersAfter(versioned, 2);
+
+        // Assert
+        assertEquals(List.of("c", "d"), ids(page));
+        assertEquals(5, page.getSnapshotVersion());
+    }
+
+    @Test
+    public void testGetPlayersAfterRejectsBadInput() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a"), 1));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersAfter(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersAfter(null, 1001));
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersAfter("not a cursor!", 10));
+    }
+
+    @Test
+    public void testSearchReturnsRequestedWindowAndTotal() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("c", "a", "e", "b", "d"), 4));
+        PlayerQuery query = new PlayerQuery();
+        query.setSort("playerID");
+        query.setOffset(1);
+        query.setLimit(2);
+
+        // Act
+        PlayerSearchResult result = playerService.search(query);
+
+        // Assert
+        assertEquals(List.of("b", "c"), result.getPlayers().stream().map(Player::getPlayerID).toList());
+        assertEquals(5, result.getTotal());
+        assertEquals(4, result.getSnapshotVersion());
+    }
+
+    @Test
+    public void testSearchRejectsBadWindow() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a"), 1));
+        PlayerQuery noLimit = new PlayerQuery();
+        noLimit.setLimit(0);
+        PlayerQuery negativeOffset = new PlayerQuery();
+        negativeOffset.setOffset(-1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> playerService.search(noLimit));
+        assertThrows(IllegalArgumentException.class, () -> playerService.search(negativeOffset));
+    }
+
+    @Test
+    public void testSearchByNameUsesSnapshotNameIndex() {
+        // Arrange
+        Player player = new Player();
+        player.setPlayerID("pena01");
+        player.setNameFirst("Tony");
+        player.setNameLast("Peña");
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(List.of(player), 1));
+
+        // Act
+        List<Player> exact = playerService.searchByName("pen", 0, 10);
+        List<Player> fuzzy = playerService.searchByName("pina", 1, 10);
+
+        // Assert
+        assertEquals(List.of(player), exact);
+        assertEquals(List.of(player), fuzzy);
+    }
+
+    @Test
+    public void testSearchByNameRejectsBadInput() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a"), 1));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> playerService.searchByName(" - ", 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> playerService.searchByName("smith", 3, 10));
+        assertThrows(IllegalArgumentException.class, () -> playerService.searchByName("smith", 0, 0));
+    }
+
+    @Test
+    public void testGetByIdsMarksMissingIdsInRequestOrder() {
+        // Arrange
+        List<Player> roster = players("a", "b");
+        List<String> ids = List.of("b", "zz", "a");
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(roster, 1));
+
+        // Act
+        List<PlayerLookup> result = playerService.getByIds(ids);
+
+        // Assert
+        assertEquals(List.of(new PlayerLookup("b", true, roster.get(1)), new PlayerLookup("zz", false, null),
+            new PlayerLookup("a", true, roster.get(0))), result);
+        verify(playerRepository, times(1)).getSnapshot();
+    }
+
+    @Test
+    public void testGetPlayersPageRejectsOversizedPage() {
+        // Arrange
+        updatePrivateFieldValue(playerService, 2, "maxPageSize");
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a", "b", "c"), 1));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersPage(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersPage(1, 0));
+        assertEquals(List.of("c"), playerService.getPlayersPage(2, 2).stream().map(Player::getPlayerID).toList());
+    }
+
+    @Test
+    public void testGetByIdsRejectsOversizedBatch() {
+        // Arrange
+        updatePrivateFieldValue(playerService, 2, "maxBatchIds");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> playerService.getByIds(List.of("a", "b", "c")));
+        assertThrows(IllegalArgumentException.class, () -> playerService.getByIds(null));
+        verify(playerRepository, never()).getSnapshot();
+    }
+
+    @Test
+    public void testPinnedViewKeepsReadingItsVersionAfterReload() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a", "b", "c"), 1));
+        IPlayerService first = playerService.atVersion(1L);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a", "c"), 2));
+
+        // Act
+        PlayerPage pinned = playerService.atVersion(1L).getPlayersAfter(null, 10);
+        PlayerPage current = playerService.atVersion(null).getPlayersAfter(null, 10);
+
+        // Assert
+        assertEquals(1, first.getSnapshotVersion());
+        assertEquals(List.of("a", "b", "c"), first.getAll().stream().map(Player::getPlayerID).toList());
+        assertEquals(List.of("a", "b", "c"), ids(pinned));
+        assertEquals(1, pinned.getSnapshotVersion());
+        assertEquals(List.of("a", "c"), ids(current));
+        assertEquals(2, playerService.getSnapshotVersion());
+        assertSame(first, first.atVersion(1L));
+    }
+
+    @Test
+    public void testUnretainedVersionIsExpired() {
+        // Arrange
+        updatePrivateFieldValue(playerService, 2, "retainedSnapshots");
+        for (long version = 1; version <= 3; version++) {
+            when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a"), version));
+            playerService.atVersion(null);
+        }
+
+        // Act
+        SnapshotExpiredException expired = assertThrows(SnapshotExpiredException.class,
+            () -> playerService.atVersion(1L));
+
+        // Assert
+        assertEquals(1, expired.getVersion());
+        assertEquals(3, expired.getCurrentVersion());
+        assertEquals(2, playerService.atVersion(2L).getSnapshotVersion());
+        assertThrows(SnapshotExpiredException.class, () -> playerService.atVersion(4L));
+    }
+
+    @Test
+    public void testUnpinnedViewKeepsTheSnapshotItResolved() {
+        // Arrange: the snapshot is swapped right after the view resolves it, before any header or data read
+        PlayerSnapshot first = PlayerSnapshot.loaded(players("a"), 1);
+        PlayerSnapshot second = PlayerSnapshot.loaded(players("a", "b"), 2);
+        when(playerRepository.getSnapshot()).thenReturn(first, second);
+
+        // Act
+        IPlayerService view = playerService.atVersion(null);
+        long version = view.getSnapshotVersion();
+        long hash = view.getContentHash();
+        List<Player> rows = view.getAll();
+
+        // Assert
+        assertEquals(1, version);
+        assertEquals(first.getContentHash(), hash);
+        assertEquals(List.of("a"), rows.stream().map(Player::getPlayerID).toList());
+        assertEquals(1, playerService.atVersion(1L).getSnapshotVersion());
+        assertEquals(2, playerService.getSnapshotVersion());
+        assertSame(playerService.getChangeFeed(), view.getChangeFeed());
+    }
+
+    @Test
+    public void testSnapshotsReadFromTheFileAreNotRetained() {
+        // Arrange
+        IPlayerStore store = mock(IPlayerStore.class);
+        when(store.ownsRows()).thenReturn(false);
+        PlayerSnapshot first = PlayerSnapshot.unindexed(store, 1);
+        PlayerSnapshot second = PlayerSnapshot.unindexed(store, 2);
+        when(playerRepository.getSnapshot()).thenReturn(first);
+        playerService.atVersion(null);
+        assertEquals(1, playerService.atVersion(1L).getSnapshotVersion());
+        when(playerRepository.getSnapshot()).thenReturn(second);
+
+        // Act
+        SnapshotExpiredException expired = assertThrows(SnapshotExpiredException.class,
+            () -> playerService.atVersion(1L));
+
+        // Assert
+        assertEquals(2, expired.getCurrentVersion());
+        assertEquals(2, playerService.atVersion(2L).getSnapshotVersion());
+    }
+
+    @Test
+    public void testFailedLoadIsNotRetained() {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.EMPTY.withLoadError("Load error"));
+        playerService.atVersion(null);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(players("a"), 2));
+
+        // Act & Assert
+        assertThrows(SnapshotExpiredException.class, () -> playerService.atVersion(PlayerSnapshot.EMPTY.getVersion()));
+    }
+
+    @Test
+    public void testContentHashFollowsRowsNotVersion() {
+        // Arrange
+        PlayerSnapshot first = PlayerSnapshot.loaded(players("a", "b"), 1);
+        PlayerSnapshot reloaded = PlayerSnapshot.loaded(players("a", "b"), 2);
+        PlayerSnapshot changed = PlayerSnapshot.loaded(players("a", "c"), 3);
+        when(playerRepository.getSnapshot()).thenReturn(first);
+
+        // Act
+        long hash = playerService.getContentHash();
+
+        // Assert
+        assertEquals(first.getContentHash(), hash);
+        assertEquals(hash, reloaded.getContentHash());
+        assertNotEquals(hash, changed.getContentHash());
+        assertEquals(hash, first.withLoadError("Reload error").getContentHash());
+    }
+
+    @Test
+    public void testContentHashIsComputedOnFirstUse() {
+        // Arrange
+        IPlayerStore store = mock(IPlayerStore.class);
+        when(store.getContentHash()).thenReturn(42L);
+        PlayerSnapshot snapshot = PlayerSnapshot.unindexed(store, 1);
+        verify(store, never()).getContentHash();
+        when(playerRepository.getSnapshot()).thenReturn(snapshot);
+
+        // Act
+        long hash = playerService.getContentHash();
+
+        // Assert
+        assertEquals(42L, hash);
+        assertEquals(42L, snapshot.getContentHash());
+        verify(store, times(1)).getContentHash();
+    }
+
+    @Test
+    public void testReloadPublishesAddedUpdatedAndRemovedRows() throws IOException {
+        // Arrange
+        List<Player> before = players("a", "b", "c");
+        Player renamed = players("b").get(0);
+        renamed.setNameFirst("Bo");
+        Player added = players("d").get(0);
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.loaded(before, 1),
+            PlayerSnapshot.loaded(List.of(before.get(0), renamed, added), 2));
+
+        // Act
+        playerService.loadPlayers(testFilePath);
+        PlayerChangeEvent change = playerService.getChangeFeed().subscribe(1L).blockFirst(Duration.ofSeconds(5));
+
+        // Assert
+        verify(playerRepository).loadPlayers(testFilePath);
+        assertEquals(new PlayerChangeEvent(2, 1, false, List.of(added), List.of(renamed), List.of("c")), change);
+    }
+
+    @Test
+    public void testIncrementalReloadPublishesTheChangesItRecorded() throws IOException {
+        // Arrange
+        PlayerSnapshot previous = PlayerSnapshot.loaded(players("a", "b"), 1);
+        List<Player> reloaded = new ArrayList<>(previous.getPlayers());
+        reloaded.add(players("c").get(0));
+        PlayerSnapshot next = PlayerSnapshot.fromDelta(previous, PlayerDelta.compare(previous, reloaded, Map.of()), 2);
+        when(playerRepository.getSnapshot()).thenReturn(previous, next);
+
+        // Act
+        playerService.loadPlayers(testFilePath);
+        PlayerChangeEvent change = playerService.getChangeFeed().subscribe(1L).blockFirst(Duration.ofSeconds(5));
+
+        // Assert
+        assertSame(next.getChanges(), change);
+        assertEquals(List.of(reloaded.get(2)), change.getAdded());
+        assertTrue(change.getUpdated().isEmpty());
+    }
+
+    @Test
+    public void testReloadOfStoreReadFromFilePublishesResetWithoutReadingRows() throws IOException {
+        // Arrange
+        IPlayerStore store = mock(IPlayerStore.class);
+        when(store.ownsRows()).thenReturn(false);
+        PlayerSnapshot first = PlayerSnapshot.unindexed(store, 1);
+        PlayerSnapshot second = PlayerSnapshot.unindexed(store, 2);
+        when(playerRepository.getSnapshot()).thenReturn(first, second);
+
+        // Act
+        playerService.loadPlayers(testFilePath);
+        PlayerChangeEvent change = playerService.getChangeFeed().subscribe(1L).blockFirst(Duration.ofSeconds(5));
+
+        // Assert
+        assertTrue(change.isReset());
+        assertEquals(2, change.getVersion());
+        verify(store, never()).asList();
+        verify(store, never()).getById(any());
+    }
+
+    @Test
+    public void testFirstLoadPublishesReset() throws IOException {
+        // Arrange
+        when(playerRepository.getSnapshot()).thenReturn(PlayerSnapshot.EMPTY, PlayerSnapshot.loaded(players("a"), 1));
+
+        // Act
+        playerService.loadPlayers(testFilePath);
+        PlayerChangeEvent change = playerService.getChangeFeed().subscribe(0L).blockFirst(Duration.ofSeconds(5));
+
+        // Assert
+        assertTrue(change.isReset());
+        assertEquals(1, change.getVersion());
+        assertTrue(change.getAdded().isEmpty());
+    }
+
+    private static List<Player> players(String... ids) {
+        return Arrays.stream(ids).map(id -> {
+            Player player = new Player();
+            player.setPlayerID(id);
+            return player;
+        }).toList();
+    }
+
+    private static List<String> ids(PlayerPage page) {
+        return page.getPlayers().stream().map(Player::getPlayerID).toList();
+    }
+
     public static Object getPrivateFieldValue(Object object, String fieldName) {
         try {
             Class<?> clazz = object.getClass();
@@ -0,0 +1,123 @@
+package com.intuit.playerservice.unitTest.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.intuit.playerservice.metrics.PlayerMetrics;
+import com.intuit.playerservice.service.RequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestCoalescerTest {
+    private SimpleMeterRegistry registry;
+    private RequestCoalescer coalescer;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(new PlayerMetrics(registry), true);
+    }
+
+    @Test
+    public void testConcurrentIdenticalRequestsShareOneExecution() throws Exception {
+        // Arrange
+        int followers = 4;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(followers + 1);
+
+        // Act
+        Future<String> leader = executor.submit(() -> coalescer.execute("page-1-10", () -> {
+            executions.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "rows";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < followers; i++) {
+            results.add(executor.submit(() -> coalescer.execute("page-1-10", () -> {
+                executions.incrementAndGet();
+                return "other";
+            })));
+        }
+        while (registry.get("player.requests.coalesced").counter().count() < followers) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("rows", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> result : results) {
+            assertEquals("rows", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testFinishedRequestIsNotReused() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        int first = coalescer.execute("stats", executions::incrementAndGet);
+        int second = coalescer.execute("stats", executions::incrementAndGet);
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(0, registry.get("player.requests.coalesced").counter().count());
+    }
+
+    @Test
+    public void testFailureIsRethrownUnwrappedAndClearsKey() {
+        // Act
+        assertThrows(NoSuchElementException.class, () -> coalescer.execute("id-missing", () -> {
+            throw new NoSuchElementException("Unknown dataset");
+        }));
+
+        // Assert
+        assertEquals("found", coalescer.execute("id-missing", () -> "found"));
+    }
+
+    @Test
+    public void testDisabledRunsEveryRequest() throws Exception {
+        // Arrange
+        RequestCoalescer disabled = new RequestCoalescer(new PlayerMetrics(registry), false);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Integer> blocked = executor.submit(() -> disabled.execute("all", () -> {
+            await(release);
+            return executions.incrementAndGet();
+        }));
+
+        // Act
+        int immediate = disabled.execute("all", executions::incrementAndGet);
+        release.countDown();
+
+        // Assert
+        assertEquals(1, immediate);
+        assertEquals(2, blocked.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}